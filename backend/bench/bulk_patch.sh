@@ -0,0 +1,40 @@
+#!/usr/bin/env bash
+# Compares 1,000 single PATCH /issues/{id} calls with one PATCH /issues/bulk call.
+#
+# Needs a running backend, curl and jq:
+#   BASE_URL=http://localhost:8080 EMAIL=debug@test.com PASSWORD=password123 bench/bulk_patch.sh
+set -euo pipefail
+
+BASE_URL=${BASE_URL:-http://localhost:8080}
+EMAIL=${EMAIL:-debug@test.com}
+PASSWORD=${PASSWORD:-password123}
+COUNT=${COUNT:-1000}
+
+now_ms() { echo $(( $(date +%s%N) / 1000000 )); }
+
+TOKEN=$(curl -sf -X POST "$BASE_URL/auth/login" -H 'Content-Type: application/json' \
+  -d "{\"email\":\"$EMAIL\",\"password\":\"$PASSWORD\"}" | jq -r .token)
+AUTH="Authorization: Bearer $TOKEN"
+
+PROJECT_ID=$(curl -sf -X POST "$BASE_URL/projects" -H "$AUTH" -H 'Content-Type: application/json' \
+  -d '{"name":"bulk-patch bench"}' | jq -r .id)
+
+ISSUES=$(jq -n --argjson n "$COUNT" '[range($n) | {title: "bench issue \(.)", priority: "LOW"}]')
+IDS=$(curl -sf -X POST "$BASE_URL/projects/$PROJECT_ID/issues/bulk" -H "$AUTH" -H 'Content-Type: application/json' \
+  -d "$ISSUES" | jq -r '.[].id')
+echo "Created $(echo "$IDS" | wc -l) issues in project $PROJECT_ID"
+
+start=$(now_ms)
+for id in $IDS; do
+  curl -sf -o /dev/null -X PATCH "$BASE_URL/issues/$id" -H "$AUTH" -H 'Content-Type: application/json' \
+    -d '{"status":"IN_PROGRESS"}'
+done
+single_ms=$(( $(now_ms) - start ))
+
+BULK=$(echo "$IDS" | jq -R . | jq -s '[.[] | {id: ., status: "DONE"}]')
+start=$(now_ms)
+curl -sf -o /dev/null -X PATCH "$BASE_URL/issues/bulk" -H "$AUTH" -H 'Content-Type: application/json' -d "$BULK"
+bulk_ms=$(( $(now_ms) - start ))
+
+echo "$COUNT single PATCHes: ${single_ms} ms"
+echo "1 bulk PATCH of $COUNT: ${bulk_ms} ms"
@@ -0,0 +1,19 @@
+#!/usr/bin/env bash
+# Compares two JMH result files written by the jmh profile (target/jmh-result.json):
+#   bench/jmh_diff.sh before.json after.json
+# Prints tab-separated score and allocated bytes per operation for each benchmark, with the change in %.
+set -euo pipefail
+
+jq -rn --slurpfile before "$1" --slurpfile after "$2" '
+  def key: .benchmark + (if .params then " " + (.params | to_entries | map("\(.key)=\(.value)") | join(",")) else "" end);
+  def alloc: .secondaryMetrics["gc.alloc.rate.norm"].score // null;
+  def pct(a; b): if a == null or b == null or a == 0 then "n/a" else "\(((b - a) / a * 1000 | round) / 10)%" end;
+  ($before[0] | map({(key): .}) | add) as $old
+  | ["benchmark", "unit", "before", "after", "change", "B/op before", "B/op after", "change"],
+    ($after[0][] | key as $k | $old[$k] as $o | select($o != null)
+      | [$k, .primaryMetric.scoreUnit,
+         ($o.primaryMetric.score | . * 100 | round / 100), (.primaryMetric.score | . * 100 | round / 100),
+         pct($o.primaryMetric.score; .primaryMetric.score),
+         ($o | alloc | if . then round else null end), (alloc | if . then round else null end),
+         pct($o | alloc; alloc)])
+  | @tsv'
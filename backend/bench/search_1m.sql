@@ -0,0 +1,107 @@
+-- Full-text search benchmark on a 1M-issue dataset.
+--
+-- Run against a THROWAWAY database that the backend has already migrated (Flyway V1..V5):
+--   psql -h localhost -p 5433 -U postgres -d bugbase_bench -f bench/search_1m.sql
+--
+-- Seeds one project with 1,000,000 issues and 500,000 comments built from a small
+-- vocabulary, then times the same statement IssueSearchRepository runs for a rare term,
+-- a common term, a phrase, and a project + status scoped query.
+
+\timing on
+SET client_min_messages = warning;
+
+-- ---------------------------------------------------------------- seed
+INSERT INTO users (id, email, password_hash, full_name, role, created_at)
+VALUES ('00000000-0000-0000-0000-0000000be0c1', 'bench@bugbase.local', 'x', 'Bench User', 'MEMBER', now())
+ON CONFLICT DO NOTHING;
+
+INSERT INTO projects (id, name, owner_id, created_at, updated_at)
+VALUES ('00000000-0000-0000-0000-0000000be0c2', 'Search bench', '00000000-0000-0000-0000-0000000be0c1', now(), now())
+ON CONFLICT DO NOTHING;
+
+-- 54 common words plus 20,000 rare tokens (zq1..zq20000) for selective queries
+CREATE OR REPLACE FUNCTION pg_temp.sentence(words int) RETURNS text AS $$
+    SELECT string_agg(
+        CASE WHEN random() < 0.05
+             THEN 'zq' || (1 + (random() * 19999)::int)
+             ELSE (ARRAY[
+                'login', 'crash', 'timeout', 'checkout', 'payment', 'invoice', 'dashboard', 'export', 'upload',
+                'avatar', 'session', 'token', 'refresh', 'password', 'email', 'notification', 'search', 'filter',
+                'pagination', 'render', 'layout', 'mobile', 'safari', 'firefox', 'chrome', 'memory', 'leak',
+                'deadlock', 'latency', 'cache', 'database', 'migration', 'index', 'query', 'report', 'chart',
+                'button', 'modal', 'dropdown', 'calendar', 'timezone', 'locale', 'translation', 'permission',
+                'role', 'admin', 'audit', 'webhook', 'integration', 'slack', 'github', 'sso', 'oauth', 'ldap'
+             ])[1 + (random() * 53)::int]
+        END, ' ')
+    FROM generate_series(1, words);
+$$ LANGUAGE sql VOLATILE;
+
+INSERT INTO issues (id, project_id, title, description, status, priority, reporter_id, created_at, updated_at)
+SELECT gen_random_uuid(),
+       '00000000-0000-0000-0000-0000000be0c2',
+       pg_temp.sentence(6),
+       pg_temp.sentence(40),
+       (ARRAY['TO_DO', 'IN_PROGRESS', 'DONE'])[1 + (random() * 2)::int],
+       (ARRAY['LOW', 'MEDIUM', 'HIGH'])[1 + (random() * 2)::int],
+       '00000000-0000-0000-0000-0000000be0c1',
+       now() - (g || ' seconds')::interval,
+       now()
+FROM generate_series(1, 1000000) AS g;
+
+INSERT INTO comments (id, issue_id, author_id, content, created_at)
+SELECT gen_random_uuid(), i.id, '00000000-0000-0000-0000-0000000be0c1', pg_temp.sentence(25), now()
+FROM issues i
+WHERE i.project_id = '00000000-0000-0000-0000-0000000be0c2'
+  AND random() < 0.5;
+
+VACUUM ANALYZE issues;
+VACUUM ANALYZE comments;
+
+-- ---------------------------------------------------------------- queries
+PREPARE search(text, int) AS
+WITH query AS (SELECT websearch_to_tsquery('english', $1) AS q),
+hits AS (
+    SELECT i.id AS issue_id, ts_rank(i.search_vector, query.q) AS rank
+    FROM issues i, query
+    WHERE i.search_vector @@ query.q
+    UNION ALL
+    SELECT c.issue_id, ts_rank(c.search_vector, query.q) * 0.5
+    FROM comments c JOIN issues i ON i.id = c.issue_id, query
+    WHERE c.search_vector @@ query.q
+)
+SELECT i.id, i.project_id, i.title, i.status, i.priority, max(h.rank) AS rank
+FROM hits h JOIN issues i ON i.id = h.issue_id
+GROUP BY i.id
+ORDER BY rank DESC, i.id
+LIMIT $2;
+
+PREPARE scoped_search(text, uuid, text, int) AS
+WITH query AS (SELECT websearch_to_tsquery('english', $1) AS q),
+hits AS (
+    SELECT i.id AS issue_id, ts_rank(i.search_vector, query.q) AS rank
+    FROM issues i, query
+    WHERE i.search_vector @@ query.q AND i.project_id = $2 AND i.status IN ($3)
+    UNION ALL
+    SELECT c.issue_id, ts_rank(c.search_vector, query.q) * 0.5
+    FROM comments c JOIN issues i ON i.id = c.issue_id, query
+    WHERE c.search_vector @@ query.q AND i.project_id = $2 AND i.status IN ($3)
+)
+SELECT i.id, i.project_id, i.title, i.status, i.priority, max(h.rank) AS rank
+FROM hits h JOIN issues i ON i.id = h.issue_id
+GROUP BY i.id
+ORDER BY rank DESC, i.id
+LIMIT $4;
+
+-- Warm up, then measure
+EXECUTE search('zq4242', 20);
+
+\echo 'rare term'
+EXPLAIN (ANALYZE, BUFFERS) EXECUTE search('zq4242', 20);
+\echo 'two rare terms'
+EXPLAIN (ANALYZE, BUFFERS) EXECUTE search('zq17 zq9001', 20);
+\echo 'common term (worst case: ranks a large share of the table)'
+EXPLAIN (ANALYZE, BUFFERS) EXECUTE search('deadlock', 20);
+\echo 'phrase'
+EXPLAIN (ANALYZE, BUFFERS) EXECUTE search('"memory leak"', 20);
+\echo 'project + status scoped'
+EXPLAIN (ANALYZE, BUFFERS) EXECUTE scoped_search('zq4242', '00000000-0000-0000-0000-0000000be0c2', 'TO_DO', 20);
@@ -0,0 +1,51 @@
+#!/usr/bin/env bash
+# Load-tests the same build in platform-thread and virtual-thread mode, side by side.
+#
+# Needs JDK 21+, a reachable Postgres (see application.properties), curl, jq and hey
+# (https://github.com/rakyll/hey). Builds the jar, then for each mode starts it on PORT,
+# runs the load and stops it:
+#   EMAIL=debug@test.com PASSWORD=password123 bench/vthreads_compare.sh
+#
+# Each run also logs carrier-thread pinning (-Djdk.tracePinnedThreads=short); the pinned
+# count printed per mode should be 0.
+set -euo pipefail
+cd "$(dirname "$0")/.."
+
+PORT=${PORT:-18080}
+BASE_URL="http://localhost:$PORT"
+EMAIL=${EMAIL:-debug@test.com}
+PASSWORD=${PASSWORD:-password123}
+DURATION=${DURATION:-30s}
+CONCURRENCY=${CONCURRENCY:-1000}
+LOGIN_CONCURRENCY=${LOGIN_CONCURRENCY:-100}
+
+mvn -B -q package -DskipTests
+JAR=$(ls target/*.jar | grep -v original | head -1)
+
+run_mode() {
+  local mode=$1 virtual=$2 log="target/vthreads-$1.log"
+  java -Djdk.tracePinnedThreads=short -jar "$JAR" --server.port="$PORT" \
+    --spring.threads.virtual.enabled="$virtual" > "$log" 2>&1 &
+  local pid=$!
+  trap "kill $pid 2>/dev/null || true" RETURN
+  until curl -sf "$BASE_URL/actuator/health" > /dev/null; do sleep 1; done
+
+  local token project
+  token=$(curl -sf -X POST "$BASE_URL/auth/login" -H 'Content-Type: application/json' \
+    -d "{\"email\":\"$EMAIL\",\"password\":\"$PASSWORD\"}" | jq -r .token)
+  project=$(curl -sf "$BASE_URL/projects" -H "Authorization: Bearer $token" | jq -r '.[0].id')
+
+  echo "== $mode: GET /projects/{id}/issues, $CONCURRENCY concurrent, $DURATION"
+  hey -z "$DURATION" -c "$CONCURRENCY" -H "Authorization: Bearer $token" \
+    "$BASE_URL/projects/$project/issues" | grep -E 'Requests/sec|Average|99%|\[[0-9]+\]'
+
+  echo "== $mode: POST /auth/login (BCrypt), $LOGIN_CONCURRENCY concurrent, $DURATION"
+  hey -z "$DURATION" -c "$LOGIN_CONCURRENCY" -m POST -T application/json \
+    -d "{\"email\":\"$EMAIL\",\"password\":\"$PASSWORD\"}" \
+    "$BASE_URL/auth/login" | grep -E 'Requests/sec|Average|99%|\[[0-9]+\]'
+
+  echo "== $mode: pinned carrier threads: $(grep -c 'onPinned\|<== monitors' "$log" || true)"
+}
+
+run_mode platform false
+run_mode virtual true
@@ -0,0 +1,73 @@
+package com.bugbase.benchmark;
+
+import com.bugbase.model.Role;
+import com.bugbase.model.User;
+import com.bugbase.security.AuthTokenFilter;
+import com.bugbase.security.UserDetailsServiceImpl;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The per-request authentication path: header parsing, token verification, principal lookup
+ * (served from a warm cache here) and building the Authentication. The request and response
+ * mocks are created per call, as the filter marks each request as already filtered.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AuthTokenFilterBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    private AuthTokenFilter filter;
+    private User user;
+    private String authorization;
+
+    @Setup
+    public void setUp() {
+        user = User.builder()
+                .id(UUID.randomUUID())
+                .email("bench@bugbase.dev")
+                .fullName("Bench User")
+                .role(Role.MEMBER)
+                .build();
+        UserDetailsServiceImpl cachedPrincipals = new UserDetailsServiceImpl(null) {
+            @Override
+            public UserDetails loadUserByUsername(String email) {
+                return user;
+            }
+        };
+        filter = new AuthTokenFilter();
+        ReflectionTestUtils.setField(filter, "jwtUtils", JwtBenchmark.jwtUtils(false));
+        ReflectionTestUtils.setField(filter, "userDetailsService", cachedPrincipals);
+        authorization = "Bearer " + JwtBenchmark.jwtUtils(false).generateTokenFromEmail(user.getEmail());
+    }
+
+    @Benchmark
+    public Object filterValidToken() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/projects");
+        request.addHeader("Authorization", authorization);
+        filter.doFilter(request, new MockHttpServletResponse(), NO_OP_CHAIN);
+        Object authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+
+    @Benchmark
+    public Collection<? extends GrantedAuthority> userAuthorities() {
+        return user.getAuthorities();
+    }
+}
@@ -0,0 +1,61 @@
+package com.bugbase.benchmark;
+
+import com.bugbase.dto.IssueChanges;
+import com.bugbase.model.Issue;
+import com.bugbase.model.IssuePriority;
+import com.bugbase.model.IssueStatus;
+import com.bugbase.model.User;
+import com.bugbase.service.IssueService;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PATCH /issues/{id} body handling: reading the JSON into a Map and applying it to the
+ * entity, plus the bulk path's conversion of an item into {@link IssueChanges}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IssuePatchBenchmark {
+
+    private static final TypeReference<Map<String, Object>> BODY = new TypeReference<>() { };
+
+    private ObjectMapper objectMapper;
+    private byte[] body;
+    private Map<String, Object> updates;
+    private Optional<User> assignee;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        UUID assigneeId = UUID.randomUUID();
+        body = ("{\"title\":\"Board drag and drop loses order\",\"status\":\"IN_PROGRESS\","
+                + "\"priority\":\"HIGH\",\"assigneeId\":\"" + assigneeId + "\"}").getBytes(StandardCharsets.UTF_8);
+        updates = objectMapper.readValue(body, BODY);
+        assignee = Optional.of(User.builder().id(assigneeId).fullName("Assignee").build());
+    }
+
+    @Benchmark
+    public Issue parseAndApply() throws Exception {
+        Map<String, Object> parsed = objectMapper.readValue(body, BODY);
+        Issue issue = Issue.builder().status(IssueStatus.TO_DO).priority(IssuePriority.LOW).build();
+        IssueService.applyUpdates(issue, parsed, id -> assignee);
+        return issue;
+    }
+
+    @Benchmark
+    public IssueChanges bulkItemChanges() {
+        return IssueChanges.from(updates);
+    }
+}
@@ -0,0 +1,57 @@
+package com.bugbase.benchmark;
+
+import com.bugbase.security.JwtUtils;
+import com.bugbase.security.VerifiedJwt;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issue and verification as done on login and by the JWT filter on every request.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtBenchmark {
+
+    private JwtUtils jwtUtils;
+    private JwtUtils cachingJwtUtils;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtils = jwtUtils(false);
+        cachingJwtUtils = jwtUtils(true);
+        token = jwtUtils.generateTokenFromEmail("bench@bugbase.dev");
+    }
+
+    static JwtUtils jwtUtils(boolean cacheEnabled) {
+        JwtUtils utils = new JwtUtils();
+        ReflectionTestUtils.setField(utils, "jwtSecret", "MySuperSecretKeyThatIsAtLeast32CharactersLongToMakeSureHS512WorksFine");
+        ReflectionTestUtils.setField(utils, "jwtExpirationMs", 86400000);
+        ReflectionTestUtils.setField(utils, "jwtCacheEnabled", cacheEnabled);
+        ReflectionTestUtils.setField(utils, "jwtCacheMaxSize", 10000L);
+        ReflectionTestUtils.invokeMethod(utils, "init");
+        return utils;
+    }
+
+    @Benchmark
+    public String generate() {
+        return jwtUtils.generateTokenFromEmail("bench@bugbase.dev");
+    }
+
+    @Benchmark
+    public Optional<VerifiedJwt> verify() {
+        return jwtUtils.verify(token);
+    }
+
+    @Benchmark
+    public Optional<VerifiedJwt> verifyCached() {
+        return cachingJwtUtils.verify(token);
+    }
+}
@@ -0,0 +1,68 @@
+package com.bugbase.benchmark;
+
+import com.bugbase.dto.CommentResponse;
+import com.bugbase.dto.CursorPage;
+import com.bugbase.dto.IssueResponse;
+import com.bugbase.model.IssuePriority;
+import com.bugbase.model.IssueStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON serialization of the issue page and comment list payloads, with the same ObjectMapper
+ * defaults Spring Boot configures.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+    @Param({"50", "200"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private CursorPage<IssueResponse> issuePage;
+    private List<CommentResponse> comments;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        UUID projectId = UUID.randomUUID();
+        UUID reporterId = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+        List<IssueResponse> issues = new ArrayList<>(size);
+        comments = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            UUID issueId = UUID.randomUUID();
+            issues.add(new IssueResponse(issueId, projectId, "Issue " + i,
+                    "Steps to reproduce: open the board, drag card " + i + " and drop it on Done.",
+                    IssueStatus.values()[i % 3], IssuePriority.values()[i % 3],
+                    reporterId, "Reporter", i % 2 == 0 ? UUID.randomUUID() : null, i % 2 == 0 ? "Assignee" : null,
+                    now.minusMinutes(i), now, 0L));
+            comments.add(new CommentResponse(UUID.randomUUID(), issueId,
+                    "Reproduced on staging, attaching logs for comment " + i, reporterId, "Reporter",
+                    now.minusMinutes(i)));
+        }
+        issuePage = new CursorPage<>(issues, "bmV4dC1jdXJzb3I");
+    }
+
+    @Benchmark
+    public byte[] issuePage() throws Exception {
+        return objectMapper.writeValueAsBytes(issuePage);
+    }
+
+    @Benchmark
+    public byte[] commentList() throws Exception {
+        return objectMapper.writeValueAsBytes(comments);
+    }
+}
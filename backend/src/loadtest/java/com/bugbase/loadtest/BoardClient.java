@@ -0,0 +1,172 @@
+package com.bugbase.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * One simulated user: logs in, then loops over a weighted mix of board loads, issue
+ * PATCHes, comment adds and deletes, token refreshes and occasional re-logins, acting on
+ * issues it has seen on the boards it loaded.
+ */
+class BoardClient implements Runnable {
+
+    private static final String[] STATUSES = {"TO_DO", "IN_PROGRESS", "DONE"};
+
+    private final HttpClient http;
+    private final ObjectMapper objectMapper;
+    private final LatencyReport report;
+    private final String baseUrl;
+    private final String email;
+    private final String password;
+    private final List<UUID> projectIds;
+    private final long deadlineNanos;
+
+    private final List<String> seenIssues = new ArrayList<>();
+    private final Deque<String[]> ownComments = new ArrayDeque<>();
+    private String token;
+    private String refreshToken;
+
+    BoardClient(HttpClient http, ObjectMapper objectMapper, LatencyReport report, String baseUrl,
+            String email, String password, List<UUID> projectIds, long deadlineNanos) {
+        this.http = http;
+        this.objectMapper = objectMapper;
+        this.report = report;
+        this.baseUrl = baseUrl;
+        this.email = email;
+        this.password = password;
+        this.projectIds = projectIds;
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    @Override
+    public void run() {
+        try {
+            login();
+            while (System.nanoTime() < deadlineNanos) {
+                int roll = ThreadLocalRandom.current().nextInt(100);
+                if (roll < 50 || seenIssues.isEmpty()) {
+                    loadBoard();
+                } else if (roll < 70) {
+                    patchIssue();
+                } else if (roll < 85) {
+                    addComment();
+                } else if (roll < 95) {
+                    deleteComment();
+                } else if (roll < 99) {
+                    refresh();
+                } else {
+                    login();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            System.err.println(email + " stopped: " + e);
+        }
+    }
+
+    private void login() throws Exception {
+        JsonNode body = call("POST /auth/login", "POST", "/auth/login",
+                objectMapper.writeValueAsString(new Credentials(email, password)), false);
+        if (body != null) {
+            token = body.path("token").asText();
+            refreshToken = body.path("refreshToken").asText();
+        }
+    }
+
+    private void refresh() throws Exception {
+        JsonNode body = call("POST /auth/refresh", "POST", "/auth/refresh",
+                "{\"refreshToken\":\"" + refreshToken + "\"}", false);
+        if (body != null) {
+            token = body.path("accessToken").asText();
+        }
+    }
+
+    private void loadBoard() throws Exception {
+        // Cubic skew: most traffic goes to the largest boards
+        double skew = Math.pow(ThreadLocalRandom.current().nextDouble(), 3);
+        UUID projectId = projectIds.get((int) (skew * projectIds.size()));
+        long start = System.nanoTime();
+        JsonNode page = call("GET /projects/{id}/issues", "GET", "/projects/" + projectId + "/issues", null, true);
+        boolean statsOk = call("GET /projects/{id}/stats", "GET", "/projects/" + projectId + "/stats", null, true) != null;
+        report.record("board load (issues + stats)", start, page != null && statsOk);
+        if (page != null) {
+            for (JsonNode item : page.path("items")) {
+                if (seenIssues.size() >= 500) {
+                    seenIssues.remove(ThreadLocalRandom.current().nextInt(seenIssues.size()));
+                }
+                seenIssues.add(item.path("id").asText());
+            }
+        }
+    }
+
+    private void patchIssue() throws Exception {
+        String status = STATUSES[ThreadLocalRandom.current().nextInt(STATUSES.length)];
+        call("PATCH /issues/{id}", "PATCH", "/issues/" + randomIssue(), "{\"status\":\"" + status + "\"}", true);
+    }
+
+    private void addComment() throws Exception {
+        String issueId = randomIssue();
+        JsonNode comment = call("POST /issues/{id}/comments", "POST", "/issues/" + issueId + "/comments",
+                "{\"content\":\"Load test comment " + UUID.randomUUID() + "\"}", true);
+        if (comment != null) {
+            ownComments.add(new String[]{issueId, comment.path("id").asText()});
+        }
+    }
+
+    private void deleteComment() throws Exception {
+        String[] comment = ownComments.poll();
+        if (comment == null) {
+            addComment();
+            return;
+        }
+        call("DELETE /issues/{id}/comments/{id}", "DELETE",
+                "/issues/" + comment[0] + "/comments/" + comment[1], null, true);
+    }
+
+    private String randomIssue() {
+        return seenIssues.get(ThreadLocalRandom.current().nextInt(seenIssues.size()));
+    }
+
+    /**
+     * Sends one request and records its latency; returns the parsed body, or null on a
+     * non-2xx response.
+     */
+    private JsonNode call(String endpoint, String method, String path, String json, boolean authenticated)
+            throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(60))
+                .method(method, json != null
+                        ? HttpRequest.BodyPublishers.ofString(json)
+                        : HttpRequest.BodyPublishers.noBody());
+        if (json != null) {
+            request.header("Content-Type", "application/json");
+        }
+        if (authenticated) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        long start = System.nanoTime();
+        HttpResponse<byte[]> response = http.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        boolean ok = response.statusCode() / 100 == 2;
+        report.record(endpoint, start, ok);
+        if (!ok) {
+            return null;
+        }
+        return response.body().length > 0 ? objectMapper.readTree(response.body()) : objectMapper.nullNode();
+    }
+
+    private record Credentials(String email, String password) {
+    }
+}
@@ -0,0 +1,109 @@
+package com.bugbase.loadtest;
+
+import com.bugbase.BackendApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end load test: starts Postgres in a container (or uses {@code loadtest.jdbcUrl}),
+ * starts the application against it, seeds a realistic data set and runs many concurrent
+ * {@link BoardClient}s. Writes per-endpoint throughput and p50/p95/p99 latency to
+ * target/loadtest-report.md and .csv.
+ *
+ * <p>Run with {@code mvn -B -Ploadtest -DskipTests verify}; sizes and duration are the
+ * {@code loadtest.*} properties in the profile, e.g. {@code -Dloadtest.issues=100000}.
+ */
+public class BoardLoadHarness {
+
+    private static final String PASSWORD = "load-test-password";
+
+    public static void main(String[] args) throws Exception {
+        int users = Integer.getInteger("loadtest.users", 5_000);
+        int projects = Integer.getInteger("loadtest.projects", 2_000);
+        int issues = Integer.getInteger("loadtest.issues", 1_000_000);
+        int comments = Integer.getInteger("loadtest.comments", 2_000_000);
+        int clients = Integer.getInteger("loadtest.clients", 200);
+        Duration warmup = Duration.parse(System.getProperty("loadtest.warmup", "PT30S"));
+        Duration duration = Duration.parse(System.getProperty("loadtest.duration", "PT2M"));
+        String jdbcUrl = System.getProperty("loadtest.jdbcUrl", "");
+
+        PostgreSQLContainer<?> postgres = null;
+        String username = System.getProperty("loadtest.jdbcUser", "postgres");
+        String password = System.getProperty("loadtest.jdbcPassword", "postgres");
+        if (jdbcUrl.isBlank()) {
+            postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+                    .withSharedMemorySize(1024L * 1024 * 1024)
+                    .withCommand("postgres", "-c", "max_connections=200", "-c", "shared_buffers=512MB");
+            postgres.start();
+            jdbcUrl = postgres.getJdbcUrl();
+            username = postgres.getUsername();
+            password = postgres.getPassword();
+        }
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(BackendApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=" + jdbcUrl,
+                        "spring.datasource.username=" + username,
+                        "spring.datasource.password=" + password,
+                        "bugbase.stats.reconcileCron=-",
+                        "logging.level.root=WARN")
+                .run(args);
+        try {
+            int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+            LoadTestSeeder seeder = new LoadTestSeeder(context.getBean(JdbcTemplate.class));
+            if (!seeder.isSeeded()) {
+                seeder.seed(users, projects, issues, comments, PASSWORD);
+            }
+            List<String> emails = seeder.userEmails(clients);
+            List<UUID> projectIds = seeder.projectIds();
+
+            LatencyReport report = new LatencyReport();
+            HttpClient http = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build();
+            ObjectMapper objectMapper = new ObjectMapper();
+            long deadline = System.nanoTime() + warmup.plus(duration).toNanos();
+
+            ExecutorService pool = Executors.newFixedThreadPool(emails.size());
+            for (String email : emails) {
+                pool.submit(new BoardClient(http, objectMapper, report, "http://localhost:" + port,
+                        email, PASSWORD, projectIds, deadline));
+            }
+            System.out.printf("Running %d clients: %s warmup, %s measured%n", emails.size(), warmup, duration);
+            Thread.sleep(warmup.toMillis());
+            report.start();
+            Thread.sleep(duration.toMillis());
+            report.stop();
+            pool.shutdown();
+            pool.awaitTermination(1, TimeUnit.MINUTES);
+
+            String header = String.format("# Board load test, %s%n%n%d clients for %s after %s warmup; "
+                            + "%d users, %d projects, %d issues, %d comments.%n",
+                    Instant.now(), emails.size(), duration, warmup, users, projects, issues, comments);
+            report.write(Path.of("target"), header);
+            System.out.println(header);
+            System.out.println(report.toMarkdown());
+        } finally {
+            context.close();
+            if (postgres != null) {
+                postgres.stop();
+            }
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.bugbase.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-endpoint latency histograms (microsecond resolution, up to one minute) and error
+ * counts, rendered as a Markdown table and a CSV file.
+ */
+class LatencyReport {
+
+    private static final long MAX_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Map<String, Histogram> latencies = new ConcurrentSkipListMap<>();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+    private volatile boolean recording;
+    private volatile long startedAt;
+    private volatile long stoppedAt;
+
+    void start() {
+        startedAt = System.nanoTime();
+        recording = true;
+    }
+
+    void stop() {
+        recording = false;
+        stoppedAt = System.nanoTime();
+    }
+
+    void record(String endpoint, long startNanos, boolean ok) {
+        if (!recording) {
+            return;
+        }
+        long micros = Math.min(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos), MAX_MICROS);
+        latencies.computeIfAbsent(endpoint, e -> new ConcurrentHistogram(MAX_MICROS, 3)).recordValue(micros);
+        if (!ok) {
+            errors.computeIfAbsent(endpoint, e -> new LongAdder()).increment();
+        }
+    }
+
+    String toMarkdown() {
+        StringBuilder out = new StringBuilder()
+                .append("| endpoint | requests | req/s | p50 ms | p95 ms | p99 ms | max ms | errors |\n")
+                .append("|---|---:|---:|---:|---:|---:|---:|---:|\n");
+        rows((endpoint, h, rate, errorCount) -> out.append(String.format(Locale.ROOT,
+                "| %s | %d | %.1f | %.2f | %.2f | %.2f | %.2f | %d |%n",
+                endpoint, h.getTotalCount(), rate, millis(h, 50), millis(h, 95), millis(h, 99),
+                h.getMaxValue() / 1000.0, errorCount)));
+        return out.toString();
+    }
+
+    String toCsv() {
+        StringBuilder out = new StringBuilder("endpoint,requests,req_per_s,p50_ms,p95_ms,p99_ms,max_ms,errors\n");
+        rows((endpoint, h, rate, errorCount) -> out.append(String.format(Locale.ROOT,
+                "\"%s\",%d,%.1f,%.2f,%.2f,%.2f,%.2f,%d%n",
+                endpoint, h.getTotalCount(), rate, millis(h, 50), millis(h, 95), millis(h, 99),
+                h.getMaxValue() / 1000.0, errorCount)));
+        return out.toString();
+    }
+
+    void write(Path directory, String header) throws IOException {
+        Files.createDirectories(directory);
+        Files.writeString(directory.resolve("loadtest-report.md"), header + "\n" + toMarkdown());
+        Files.writeString(directory.resolve("loadtest-report.csv"), toCsv());
+    }
+
+    private void rows(Row row) {
+        double seconds = (stoppedAt - startedAt) / 1e9;
+        latencies.forEach((endpoint, h) -> {
+            LongAdder errorCount = errors.get(endpoint);
+            row.accept(endpoint, h, h.getTotalCount() / seconds, errorCount != null ? errorCount.sum() : 0);
+        });
+    }
+
+    private static double millis(Histogram h, double percentile) {
+        return h.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    private interface Row {
+        void accept(String endpoint, Histogram histogram, double ratePerSecond, long errors);
+    }
+}
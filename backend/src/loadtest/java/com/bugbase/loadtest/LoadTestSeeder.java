@@ -0,0 +1,99 @@
+package com.bugbase.loadtest;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Seeds users, projects, issues and comments with set-based INSERT ... SELECT statements.
+ * Project sizes are skewed (a few large boards, many small ones) and comment counts vary
+ * per issue. All triggers and indexes stay on, so seeding also exercises the write path.
+ */
+class LoadTestSeeder {
+
+    static final String EMAIL_DOMAIN = "@load.test";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    LoadTestSeeder(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    boolean isSeeded() {
+        Integer users = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM users WHERE email LIKE ?", Integer.class, "%" + EMAIL_DOMAIN);
+        return users != null && users > 0;
+    }
+
+    void seed(int users, int projects, int issues, int comments, String password) {
+        String passwordHash = new BCryptPasswordEncoder().encode(password);
+        timed("users", () -> jdbcTemplate.update("""
+                INSERT INTO users (id, email, password_hash, full_name, role, created_at)
+                SELECT gen_random_uuid(), 'user' || g || ?, ?, 'Load User ' || g, 'MEMBER', now()
+                FROM generate_series(1, ?) g
+                """, EMAIL_DOMAIN, passwordHash, users));
+
+        timed("projects", () -> jdbcTemplate.update("""
+                WITH u AS (SELECT array_agg(id) AS ids FROM users WHERE email LIKE ?)
+                INSERT INTO projects (id, name, description, owner_id, created_at, updated_at)
+                SELECT gen_random_uuid(), 'Load project ' || g, 'Seeded for load testing',
+                       u.ids[1 + (g % array_length(u.ids, 1))], now(), now()
+                FROM u, generate_series(1, ?) g
+                """, "%" + EMAIL_DOMAIN, projects));
+
+        // random()^3 puts most issues in a few projects, like real boards
+        timed("issues", () -> jdbcTemplate.update("""
+                WITH p AS (SELECT array_agg(id) AS ids FROM projects WHERE name LIKE 'Load project %'),
+                     u AS (SELECT array_agg(id) AS ids FROM users WHERE email LIKE ?)
+                INSERT INTO issues (id, project_id, title, description, status, priority,
+                                    reporter_id, assignee_id, created_at, updated_at)
+                SELECT gen_random_uuid(),
+                       p.ids[1 + floor(power(random(), 3) * array_length(p.ids, 1))::int],
+                       'Issue ' || g || ': board card does not refresh after drag',
+                       'Steps: open the board, move card ' || g || ' and reload. Expected the new column.',
+                       (ARRAY['TO_DO', 'IN_PROGRESS', 'DONE'])[1 + g % 3],
+                       (ARRAY['LOW', 'MEDIUM', 'HIGH'])[1 + (g / 3) % 3],
+                       u.ids[1 + floor(random() * array_length(u.ids, 1))::int],
+                       CASE WHEN g % 4 = 0 THEN NULL ELSE u.ids[1 + floor(random() * array_length(u.ids, 1))::int] END,
+                       now() - make_interval(secs => g), now() - make_interval(secs => g)
+                FROM p, u, generate_series(1, ?) g
+                """, "%" + EMAIL_DOMAIN, issues));
+
+        double perIssue = (double) comments / Math.max(issues, 1);
+        timed("comments", () -> jdbcTemplate.update("""
+                WITH u AS (SELECT array_agg(id) AS ids FROM users WHERE email LIKE ?)
+                INSERT INTO comments (id, issue_id, author_id, content, created_at)
+                SELECT gen_random_uuid(), i.id,
+                       u.ids[1 + floor(random() * array_length(u.ids, 1))::int],
+                       'Reproduced on staging, see attached logs (' || n || ')',
+                       i.created_at + make_interval(mins => n)
+                FROM u, issues i
+                CROSS JOIN LATERAL generate_series(1, floor(random() * 2 * ? + 0.5)::int) n
+                """, "%" + EMAIL_DOMAIN, perIssue));
+
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    List<String> userEmails(int limit) {
+        return jdbcTemplate.queryForList(
+                "SELECT email FROM users WHERE email LIKE ? ORDER BY email LIMIT ?",
+                String.class, "%" + EMAIL_DOMAIN, limit);
+    }
+
+    List<UUID> projectIds() {
+        // Largest boards first, so clients can favour them
+        return jdbcTemplate.queryForList("""
+                SELECT p.id FROM projects p LEFT JOIN issues i ON i.project_id = p.id
+                WHERE p.name LIKE 'Load project %'
+                GROUP BY p.id ORDER BY count(i.id) DESC
+                """, UUID.class);
+    }
+
+    private static void timed(String what, Runnable step) {
+        long start = System.nanoTime();
+        step.run();
+        System.out.printf("Seeded %s in %.1f s%n", what, (System.nanoTime() - start) / 1e9);
+    }
+}
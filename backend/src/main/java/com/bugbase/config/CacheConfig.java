@@ -0,0 +1,39 @@
+package com.bugbase.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Bounded in-process caches. Every cache records stats, which Actuator publishes as
+ * {@code cache.gets{result=hit|miss}}, {@code cache.puts} and {@code cache.evictions}.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String PRINCIPALS = "principals";
+
+    @Value("${bugbase.cache.principals.maxSize:10000}")
+    private long principalsMaxSize;
+
+    @Value("${bugbase.cache.principals.ttl:PT5M}")
+    private Duration principalsTtl;
+
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.registerCustomCache(PRINCIPALS, Caffeine.newBuilder()
+                .maximumSize(principalsMaxSize)
+                .expireAfterWrite(principalsTtl)
+                .recordStats()
+                .build());
+        return cacheManager;
+    }
+}
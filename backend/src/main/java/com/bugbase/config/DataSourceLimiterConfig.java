@@ -0,0 +1,68 @@
+package com.bugbase.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * Puts a {@link ConcurrencyLimitedDataSource} in front of the pool. Enabled by default when
+ * requests run on virtual threads ({@code spring.threads.virtual.enabled}, Java 21+).
+ */
+@Configuration
+@ConditionalOnProperty(name = "bugbase.db.limiter.enabled", havingValue = "true")
+public class DataSourceLimiterConfig {
+
+    // Runs before SqlMetricsConfig's post-processor, so the limiter sits right in front of the pool
+    static final int POST_PROCESSOR_ORDER = Ordered.LOWEST_PRECEDENCE - 20;
+
+    @Bean
+    public static OrderedBeanPostProcessor concurrencyLimitedDataSourcePostProcessor(
+            @Value("${bugbase.db.limiter.permits}") int permits,
+            @Value("${bugbase.db.limiter.acquireTimeout:PT60S}") Duration acquireTimeout) {
+        return new OrderedBeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ConcurrencyLimitedDataSource)) {
+                    return new ConcurrencyLimitedDataSource(dataSource, permits, acquireTimeout);
+                }
+                return bean;
+            }
+
+            @Override
+            public int getOrder() {
+                return POST_PROCESSOR_ORDER;
+            }
+        };
+    }
+
+    // Other wrappers, such as the SQL metrics one, may sit in front of the limiter
+    @Bean
+    public MeterBinder dataSourceLimiterMetrics(DataSource dataSource) {
+        return registry -> {
+            ConcurrencyLimitedDataSource limited;
+            try {
+                if (!dataSource.isWrapperFor(ConcurrencyLimitedDataSource.class)) {
+                    return;
+                }
+                limited = dataSource.unwrap(ConcurrencyLimitedDataSource.class);
+            } catch (SQLException e) {
+                throw new IllegalStateException("Cannot reach the connection limiter", e);
+            }
+            Gauge.builder("bugbase.db.limiter.waiting", limited, ConcurrencyLimitedDataSource::getQueueLength)
+                    .description("Threads queued for a database connection permit")
+                    .register(registry);
+            Gauge.builder("bugbase.db.limiter.available", limited, ConcurrencyLimitedDataSource::getAvailablePermits)
+                    .description("Free database connection permits")
+                    .register(registry);
+        };
+    }
+}
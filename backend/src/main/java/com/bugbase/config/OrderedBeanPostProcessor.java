@@ -0,0 +1,13 @@
+package com.bugbase.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+
+/**
+ * A post-processor that declares where it runs. The container only sorts post-processors it
+ * can tell implement {@link Ordered} from the {@code @Bean} method's return type, before
+ * creating them; an {@code @Order} on the method is not consulted. The DataSource wrappers
+ * return this type to fix their nesting.
+ */
+interface OrderedBeanPostProcessor extends BeanPostProcessor, Ordered {
+}
@@ -0,0 +1,90 @@
+package com.bugbase.config;
+
+import com.bugbase.controller.CommentController;
+import com.bugbase.controller.IssueController;
+import com.bugbase.controller.ProjectController;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Serves read-only transactions of project, issue and comment GETs from a read replica. Replaces
+ * Boot's pooled DataSource with a {@link ReplicaRoutingDataSource} owning two pools: the primary
+ * from {@code spring.datasource.*} and the replica from {@code bugbase.datasource.replica.*}.
+ * Both take the {@code spring.datasource.hikari.*} settings.
+ */
+@Configuration
+@ConditionalOnProperty(name = "bugbase.datasource.replica.enabled", havingValue = "true")
+public class ReadReplicaConfig implements WebMvcConfigurer {
+
+    @Value("${bugbase.datasource.replica.stickiness:PT5S}")
+    private Duration stickiness;
+
+    @Value("${bugbase.datasource.replica.trackedWriters:10000}")
+    private long trackedWriters;
+
+    @Bean
+    public ReplicaRoutingDataSource dataSource(DataSourceProperties properties, Environment environment,
+            @Value("${bugbase.datasource.replica.url}") String replicaUrl,
+            @Value("${bugbase.datasource.replica.username:${spring.datasource.username}}") String replicaUsername,
+            @Value("${bugbase.datasource.replica.password:${spring.datasource.password}}") String replicaPassword,
+            @Value("${bugbase.datasource.replica.maximumPoolSize:10}") int replicaPoolSize) {
+        Binder binder = Binder.get(environment);
+
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        if (primary.getPoolName() == null) {
+            primary.setPoolName("primary");
+        }
+
+        HikariDataSource replica = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(properties.determineDriverClassName())
+                .url(replicaUrl)
+                .username(replicaUsername)
+                .password(replicaPassword)
+                .build();
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(replica));
+        replica.setPoolName("replica");
+        replica.setMaximumPoolSize(replicaPoolSize);
+        replica.setReadOnly(true);
+
+        return new ReplicaRoutingDataSource(primary, replica);
+    }
+
+    // Boot binds the primary pool through the routing DataSource; the replica is hidden behind it
+    @Bean
+    public MeterBinder replicaPoolMetrics(DataSource dataSource) {
+        return registry -> {
+            try {
+                dataSource.unwrap(ReplicaRoutingDataSource.class).getReplica()
+                        .setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+            } catch (SQLException e) {
+                throw new IllegalStateException("DataSource does not route to a replica", e);
+            }
+        };
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ReadReplicaInterceptor(
+                Set.of(ProjectController.class, IssueController.class, CommentController.class),
+                stickiness, trackedWriters));
+    }
+}
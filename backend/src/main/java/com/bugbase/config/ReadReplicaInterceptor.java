@@ -0,0 +1,81 @@
+package com.bugbase.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Opens a {@link ReplicaReadScope} for GETs handled by the given controllers. Gives
+ * read-your-writes per user: any other request counts as a write, and for {@code stickiness}
+ * after it ends that user's reads stay on the primary. The window is tracked per instance, so it
+ * should exceed the replica lag. Other users learn of a write from the project feed, whose
+ * events carry the new issue and counts, so they have nothing to read back from the replica.
+ */
+public class ReadReplicaInterceptor implements AsyncHandlerInterceptor {
+
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final Set<Class<?>> replicaControllers;
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadReplicaInterceptor(Set<Class<?>> replicaControllers, Duration stickiness, long maxWriters) {
+        this.replicaControllers = replicaControllers;
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(maxWriters)
+                .expireAfterWrite(stickiness)
+                .build();
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String user = currentUser();
+        if (!SAFE_METHODS.contains(request.getMethod())) {
+            markWrite(user);
+        } else if (request.getMethod().equals("GET")
+                && handler instanceof HandlerMethod handlerMethod
+                && replicaControllers.contains(handlerMethod.getBeanType())
+                && (user == null || recentWriters.getIfPresent(user) == null)) {
+            ReplicaReadScope.enter();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+            Object handler) {
+        ReplicaReadScope.exit();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+            Exception ex) {
+        ReplicaReadScope.exit();
+        if (!SAFE_METHODS.contains(request.getMethod())) {
+            // Restart the window once the write has committed
+            markWrite(currentUser());
+        }
+    }
+
+    private void markWrite(String user) {
+        if (user != null) {
+            recentWriters.put(user, Boolean.TRUE);
+        }
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
@@ -0,0 +1,27 @@
+package com.bugbase.config;
+
+/**
+ * Marks the request running on the current thread as allowed to read from the replica. Set by
+ * {@link ReadReplicaInterceptor} and consulted by {@link ReplicaRoutingDataSource} when a
+ * read-only transaction opens its connection. Work handed to other threads (async exports,
+ * the feed sender) is outside the scope and stays on the primary.
+ */
+public final class ReplicaReadScope {
+
+    private static final ThreadLocal<Boolean> ACTIVE = new ThreadLocal<>();
+
+    private ReplicaReadScope() {
+    }
+
+    static void enter() {
+        ACTIVE.set(Boolean.TRUE);
+    }
+
+    static void exit() {
+        ACTIVE.remove();
+    }
+
+    static boolean isActive() {
+        return ACTIVE.get() != null;
+    }
+}
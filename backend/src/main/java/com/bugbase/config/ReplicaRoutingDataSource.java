@@ -0,0 +1,58 @@
+package com.bugbase.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.Closeable;
+import java.util.Map;
+
+/**
+ * Sends read-only transactions inside a {@link ReplicaReadScope} to the replica pool and all
+ * other work to the primary. The lazy proxy defers fetching the physical connection to the first
+ * statement: the transaction manager asks for a connection before it flags the transaction as
+ * read-only, so routing any earlier would always pick the primary.
+ */
+public class ReplicaRoutingDataSource extends LazyConnectionDataSourceProxy implements Closeable {
+
+    private enum Target {
+        PRIMARY,
+        REPLICA
+    }
+
+    private final HikariDataSource primary;
+    private final HikariDataSource replica;
+
+    public ReplicaRoutingDataSource(HikariDataSource primary, HikariDataSource replica) {
+        super(router(primary, replica));
+        this.primary = primary;
+        this.replica = replica;
+    }
+
+    public HikariDataSource getReplica() {
+        return replica;
+    }
+
+    @Override
+    public void close() {
+        replica.close();
+        primary.close();
+    }
+
+    private static AbstractRoutingDataSource router(HikariDataSource primary, HikariDataSource replica) {
+        AbstractRoutingDataSource router = new AbstractRoutingDataSource() {
+            @Override
+            protected Object determineCurrentLookupKey() {
+                return TransactionSynchronizationManager.isCurrentTransactionReadOnly() && ReplicaReadScope.isActive()
+                        ? Target.REPLICA
+                        : Target.PRIMARY;
+            }
+        };
+        router.setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        router.setDefaultTargetDataSource(primary);
+        router.setLenientFallback(false);
+        router.afterPropertiesSet();
+        return router;
+    }
+}
@@ -0,0 +1,82 @@
+package com.bugbase.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * Hibernate second-level cache regions for entities that are read far more often than they
+ * change. Regions live in Caffeine behind JCache and are created here with explicit bounds;
+ * Hibernate is set to fail on any region it cannot find rather than create an unbounded one.
+ * Each region is published like the other caches, as {@code cache.gets{cache=...,result=hit|miss}}.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    public static final String USERS = "users";
+    public static final String USERS_BY_EMAIL = "users-by-email";
+    public static final String PROJECTS = "projects";
+
+    @Value("${bugbase.cache.users.maxSize:10000}")
+    private long usersMaxSize;
+
+    @Value("${bugbase.cache.users.ttl:PT10M}")
+    private Duration usersTtl;
+
+    @Value("${bugbase.cache.projects.maxSize:5000}")
+    private long projectsMaxSize;
+
+    @Value("${bugbase.cache.projects.ttl:PT10M}")
+    private Duration projectsTtl;
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager() {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(provider.getDefaultURI(), getClass().getClassLoader());
+        createRegion(cacheManager, USERS, usersMaxSize, usersTtl);
+        createRegion(cacheManager, USERS_BY_EMAIL, usersMaxSize, usersTtl);
+        createRegion(cacheManager, PROJECTS, projectsMaxSize, projectsTtl);
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    @Bean
+    public MeterBinder secondLevelCacheMetrics(CacheManager hibernateCacheManager) {
+        return registry -> List.of(USERS, USERS_BY_EMAIL, PROJECTS)
+                .forEach(region -> JCacheMetrics.monitor(registry, hibernateCacheManager.getCache(region)));
+    }
+
+    private static void createRegion(CacheManager cacheManager, String name, long maxSize, Duration ttl) {
+        // The provider's default manager is shared per class loader, e.g. across test contexts
+        if (cacheManager.getCache(name) != null) {
+            return;
+        }
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maxSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        configuration.setStatisticsEnabled(true);
+        // Hibernate stores disassembled entries already; JCache would otherwise copy every get and put
+        configuration.setStoreByValue(false);
+        cacheManager.createCache(name, configuration);
+    }
+}
@@ -0,0 +1,55 @@
+package com.bugbase.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+/**
+ * Per-request SQL instrumentation: wraps the DataSource in a {@link StatementMetricsDataSource}
+ * and registers the {@link SqlMetricsFilter} ahead of security, so principal lookups count too.
+ */
+@Configuration
+@ConditionalOnProperty(name = "bugbase.sql.metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlMetricsConfig {
+
+    // Outermost DataSource wrapper: after DataSourceLimiterConfig's post-processor
+    static final int POST_PROCESSOR_ORDER = DataSourceLimiterConfig.POST_PROCESSOR_ORDER + 10;
+
+    @Bean
+    public static OrderedBeanPostProcessor statementMetricsDataSourcePostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new OrderedBeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+                if (bean instanceof DataSource dataSource && !(bean instanceof StatementMetricsDataSource)) {
+                    return new StatementMetricsDataSource(dataSource, meterRegistry);
+                }
+                return bean;
+            }
+
+            @Override
+            public int getOrder() {
+                return POST_PROCESSOR_ORDER;
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlMetricsFilter> sqlMetricsFilter(
+            MeterRegistry meterRegistry,
+            @Value("${bugbase.sql.statementBudget:50}") int statementBudget,
+            @Value("${bugbase.sql.repeatThreshold:10}") int repeatThreshold,
+            @Value("${bugbase.sql.budgetMode:WARN}") SqlMetricsFilter.BudgetMode budgetMode) {
+        FilterRegistrationBean<SqlMetricsFilter> registration = new FilterRegistrationBean<>(
+                new SqlMetricsFilter(meterRegistry, statementBudget, repeatThreshold, budgetMode));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
@@ -0,0 +1,118 @@
+package com.bugbase.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes per-endpoint SQL statement counts ({@code bugbase.sql.request.statements}) and
+ * SQL time ({@code bugbase.sql.request.time}), tagged like {@code http.server.requests} with
+ * method and URI pattern. Requests over the statement budget, or repeating one statement more
+ * than the repeat threshold (N+1), are logged and counted; in {@code fail} mode they throw, so
+ * tests catch regressions.
+ */
+public class SqlMetricsFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(SqlMetricsFilter.class);
+
+    public enum BudgetMode {
+        WARN,
+        FAIL
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final int statementBudget;
+    private final int repeatThreshold;
+    private final BudgetMode budgetMode;
+
+    public SqlMetricsFilter(MeterRegistry meterRegistry, int statementBudget, int repeatThreshold,
+            BudgetMode budgetMode) {
+        this.meterRegistry = meterRegistry;
+        this.statementBudget = statementBudget;
+        this.repeatThreshold = repeatThreshold;
+        this.budgetMode = budgetMode;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlRequestStats stats = SqlRequestStats.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } catch (Throwable failure) {
+            // Keep the handler's exception; a budget violation only rides along with it
+            SqlRequestStats.end();
+            String problem = record(request, stats);
+            if (problem != null && budgetMode == BudgetMode.FAIL) {
+                failure.addSuppressed(new IllegalStateException(problem));
+            }
+            throw failure;
+        }
+        SqlRequestStats.end();
+        String problem = record(request, stats);
+        if (problem != null && budgetMode == BudgetMode.FAIL) {
+            throw new IllegalStateException(problem);
+        }
+    }
+
+    /**
+     * Records the request's metrics and returns its budget or N+1 violation, if any. In
+     * {@code warn} mode the violation is logged here.
+     */
+    private String record(HttpServletRequest request, SqlRequestStats stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        Tags tags = Tags.of("method", request.getMethod(), "uri", uri);
+
+        DistributionSummary.builder("bugbase.sql.request.statements")
+                .description("JDBC statements executed per request")
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(stats.getStatements());
+        Timer.builder("bugbase.sql.request.time")
+                .description("Total JDBC execution time per request")
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(stats.getNanos(), TimeUnit.NANOSECONDS);
+
+        String problem = null;
+        if (stats.getStatements() > statementBudget) {
+            Counter.builder("bugbase.sql.budget.exceeded").tags(tags).register(meterRegistry).increment();
+            problem = String.format("%s %s ran %d SQL statements (%d ms), over the budget of %d",
+                    request.getMethod(), uri, stats.getStatements(),
+                    TimeUnit.NANOSECONDS.toMillis(stats.getNanos()), statementBudget);
+        }
+        Map.Entry<String, Integer> repeated = stats.mostRepeated();
+        if (repeated != null && repeated.getValue() > repeatThreshold) {
+            Counter.builder("bugbase.sql.repeated").tags(tags).register(meterRegistry).increment();
+            String repeatProblem = String.format("%s %s ran the same statement %d times, likely N+1: %s",
+                    request.getMethod(), uri, repeated.getValue(), abbreviate(repeated.getKey()));
+            problem = problem == null ? repeatProblem : problem + "; " + repeatProblem;
+        }
+        if (problem != null && budgetMode == BudgetMode.WARN) {
+            logger.warn(problem);
+        }
+        return problem;
+    }
+
+    private static String abbreviate(String sql) {
+        String singleLine = sql.replaceAll("\\s+", " ").trim();
+        return singleLine.length() > 200 ? singleLine.substring(0, 200) + "..." : singleLine;
+    }
+}
@@ -0,0 +1,64 @@
+package com.bugbase.config;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * SQL activity of the request running on the current thread, filled in by
+ * {@link StatementMetricsDataSource} between {@link #begin()} and {@link #end()}. Statements
+ * run on other threads (async exports, the feed sender) are not attributed to the request.
+ */
+public final class SqlRequestStats {
+
+    private static final ThreadLocal<SqlRequestStats> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long nanos;
+    private final Map<String, Integer> executionsBySql = new HashMap<>();
+
+    private SqlRequestStats() {
+    }
+
+    static SqlRequestStats begin() {
+        SqlRequestStats stats = new SqlRequestStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * @param sql the statement text to check for repeats, or null to only count it
+     */
+    static void record(String sql, long elapsedNanos) {
+        SqlRequestStats stats = CURRENT.get();
+        if (stats == null) {
+            return;
+        }
+        stats.statements++;
+        stats.nanos += elapsedNanos;
+        if (sql != null) {
+            stats.executionsBySql.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getNanos() {
+        return nanos;
+    }
+
+    /**
+     * The SQL text executed most often in this request, with its count; the usual signature
+     * of N+1 lazy loading. Null when nothing ran.
+     */
+    public Map.Entry<String, Integer> mostRepeated() {
+        return executionsBySql.entrySet().stream()
+                .max(Map.Entry.comparingByValue())
+                .orElse(null);
+    }
+}
@@ -0,0 +1,100 @@
+package com.bugbase.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every statement execution on connections from the target pool, publishing
+ * {@code bugbase.sql.statement.time} and attributing the execution to the current
+ * {@link SqlRequestStats}. A batch counts as one execution and is not treated as a repeat.
+ */
+public class StatementMetricsDataSource extends DelegatingDataSource {
+
+    // Resolved on first use: the DataSource is created before the registry is configured
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private volatile Timer statementTimer;
+
+    public StatementMetricsDataSource(DataSource target, ObjectProvider<MeterRegistry> meterRegistry) {
+        super(target);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return instrument(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return instrument(super.getConnection(username, password));
+    }
+
+    private Connection instrument(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                    Object result = invoke(connection, method, args);
+                    if (result instanceof Statement statement && isStatementFactory(method)) {
+                        String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+                        return instrument(statement, method.getReturnType(), sql);
+                    }
+                    return result;
+                });
+    }
+
+    private Object instrument(Statement statement, Class<?> type, String preparedSql) {
+        return Proxy.newProxyInstance(Statement.class.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    if (!method.getName().startsWith("execute")) {
+                        return invoke(statement, method, args);
+                    }
+                    boolean batch = method.getName().endsWith("Batch");
+                    String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : preparedSql;
+                    long start = System.nanoTime();
+                    try {
+                        return invoke(statement, method, args);
+                    } finally {
+                        long elapsed = System.nanoTime() - start;
+                        statementTimer().record(elapsed, TimeUnit.NANOSECONDS);
+                        SqlRequestStats.record(batch ? null : sql, elapsed);
+                    }
+                });
+    }
+
+    private Timer statementTimer() {
+        Timer timer = statementTimer;
+        if (timer == null) {
+            timer = Timer.builder("bugbase.sql.statement.time")
+                    .description("Execution time of individual JDBC statements")
+                    .publishPercentileHistogram()
+                    .register(meterRegistry.getObject());
+            statementTimer = timer;
+        }
+        return timer;
+    }
+
+    private static boolean isStatementFactory(Method method) {
+        Class<?> type = method.getReturnType();
+        return type == Statement.class || type == PreparedStatement.class || type == CallableStatement.class;
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
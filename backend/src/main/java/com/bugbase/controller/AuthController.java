@@ -7,6 +7,7 @@ import com.bugbase.model.User;
 import com.bugbase.repository.UserRepository;
 import com.bugbase.security.JwtUtils;
 import com.bugbase.service.RefreshTokenService;
+import com.bugbase.service.UserAutocompleteService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -32,6 +33,7 @@ public class AuthController {
     private final PasswordEncoder encoder;
     private final JwtUtils jwtUtils;
     private final RefreshTokenService refreshTokenService;
+    private final UserAutocompleteService userAutocompleteService;
 
     @PostMapping("/login")
     public ResponseEntity<?> authenticateUser(@Valid @RequestBody LoginRequest loginRequest) {
@@ -73,6 +75,7 @@ public class AuthController {
                 .build();
 
         userRepository.save(user);
+        userAutocompleteService.put(user);
 
         return ResponseEntity.ok(new MessageResponse("User registered successfully!"));
     }
@@ -83,14 +86,15 @@ public class AuthController {
 
         return refreshTokenService.findByToken(requestRefreshToken)
                 .map(refreshTokenService::verifyExpiration)
-                .map(RefreshToken::getUser)
-                .map(user -> {
-                    String token = jwtUtils.generateTokenFromEmail(user.getEmail());
+                .map(entry -> {
+                    String token = jwtUtils.generateTokenFromEmail(entry.getEmail());
                     return ResponseEntity.ok(new TokenRefreshResponse(token, requestRefreshToken));
                 })
                 .orElseThrow(() -> new RuntimeException("Refresh token is not in database!"));
     }
 
+    // Revokes every refresh token of the user on all instances: a cached token is checked
+    // against the database before each use. Access tokens stay valid until they expire
     @PostMapping("/logout")
     public ResponseEntity<?> logoutUser() {
         User userDetails = (User) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
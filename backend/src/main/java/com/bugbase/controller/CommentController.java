@@ -1,15 +1,25 @@
 package com.bugbase.controller;
 
+import com.bugbase.dto.ActivityEvent;
+import com.bugbase.dto.ChangeEvent;
+import com.bugbase.dto.CommentResponse;
+import com.bugbase.dto.CursorPage;
+import com.bugbase.dto.KeysetCursor;
+import com.bugbase.dto.VersionStamp;
 import com.bugbase.model.Comment;
 import com.bugbase.model.User;
 import com.bugbase.repository.CommentRepository;
 import com.bugbase.repository.IssueRepository;
+import com.bugbase.repository.ProjectVersionRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @CrossOrigin(origins = "*", maxAge = 3600)
@@ -20,17 +30,38 @@ public class CommentController {
 
     private final CommentRepository commentRepository;
     private final IssueRepository issueRepository;
+    private final ProjectVersionRepository projectVersionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    static final int DEFAULT_PAGE_SIZE = 20;
+    static final int MAX_PAGE_SIZE = 100;
 
     @GetMapping
-    public ResponseEntity<List<Comment>> getCommentsByIssue(@PathVariable UUID issueId) {
-        if (!issueRepository.existsById(issueId)) {
+    public ResponseEntity<CursorPage<CommentResponse>> getCommentsByIssue(
+            @PathVariable UUID issueId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int limit,
+            ServletWebRequest request) {
+
+        KeysetCursor before = cursor != null ? KeysetCursor.decode(cursor) : null;
+        int pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+
+        Optional<VersionStamp> stamp = projectVersionRepository.findByIssueId(issueId);
+        if (stamp.isPresent() && ConditionalGet.notModified(request, stamp.get())) {
+            return null;
+        }
+
+        // Fetch one extra row to learn whether another page exists
+        List<CommentResponse> comments = commentRepository.findPage(issueId, before, pageSize + 1);
+        if (comments.isEmpty() && before == null && !issueRepository.existsById(issueId)) {
             return ResponseEntity.notFound().build();
         }
-        return ResponseEntity.ok(commentRepository.findByIssueId(issueId));
+        return ResponseEntity.ok(CursorPage.of(comments, pageSize,
+                comment -> new KeysetCursor(comment.getCreatedAt(), comment.getId())));
     }
 
     @PostMapping
-    public ResponseEntity<Comment> addComment(
+    public ResponseEntity<CommentResponse> addComment(
             @PathVariable UUID issueId,
             @RequestBody Comment comment,
             @AuthenticationPrincipal User currentUser) {
@@ -38,7 +69,12 @@ public class CommentController {
         return issueRepository.findById(issueId).map(issue -> {
             comment.setIssue(issue);
             comment.setAuthor(currentUser);
-            return ResponseEntity.ok(commentRepository.save(comment));
+            CommentResponse response = CommentResponse.from(commentRepository.save(comment));
+            eventPublisher.publishEvent(ChangeEvent.comment(ChangeEvent.Action.CREATED,
+                    issue.getProject().getId(), issueId, response.getId(), response));
+            eventPublisher.publishEvent(ActivityEvent.comment(ActivityEvent.Action.CREATED,
+                    issue.getProject().getId(), issueId, response.getId(), currentUser.getId()));
+            return ResponseEntity.ok(response);
         }).orElse(ResponseEntity.notFound().build());
     }
 
@@ -49,9 +85,15 @@ public class CommentController {
             @AuthenticationPrincipal User currentUser) {
 
         return commentRepository.findById(commentId)
-                .filter(comment -> comment.getAuthor().getId().equals(currentUser.getId()))
+                .filter(comment -> comment.getAuthor() != null && comment.getAuthor().getId().equals(currentUser.getId()))
                 .map(comment -> {
                     commentRepository.delete(comment);
+                    issueRepository.findProjectIdById(issueId).ifPresent(projectId -> {
+                        eventPublisher.publishEvent(
+                                ChangeEvent.comment(ChangeEvent.Action.DELETED, projectId, issueId, commentId, null));
+                        eventPublisher.publishEvent(ActivityEvent.comment(ActivityEvent.Action.DELETED,
+                                projectId, issueId, commentId, currentUser.getId()));
+                    });
                     return ResponseEntity.ok().build();
                 })
                 .orElse(ResponseEntity.notFound().build());
@@ -0,0 +1,32 @@
+package com.bugbase.controller;
+
+import com.bugbase.dto.VersionStamp;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/**
+ * Conditional GET support for handlers whose responses are covered by a {@link VersionStamp}.
+ */
+final class ConditionalGet {
+
+    // Lets clients store the response but makes them revalidate before reuse; without it
+    // Spring Security's default no-store would stop browsers from sending validators at all
+    private static final String CACHE_CONTROL = "private, no-cache";
+
+    private ConditionalGet() {
+    }
+
+    /**
+     * Writes the ETag / Last-Modified validators and checks them against the request. When
+     * this returns true the response is already a 304 and the handler should return null.
+     * Look the stamp up before loading the data, so a concurrent write can only make the
+     * tag older than the body, never newer.
+     */
+    static boolean notModified(ServletWebRequest request, VersionStamp stamp) {
+        if (request.getResponse() != null) {
+            request.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        }
+        long lastModified = stamp.getLastModified() != null ? stamp.getLastModified().toEpochMilli() : -1;
+        return request.checkNotModified(stamp.eTag(), lastModified);
+    }
+}
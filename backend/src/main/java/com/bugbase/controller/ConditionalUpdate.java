@@ -0,0 +1,36 @@
+package com.bugbase.controller;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * If-Match support for handlers whose ETag is an entity version, written as {@code "<version>"}.
+ */
+final class ConditionalUpdate {
+
+    private ConditionalUpdate() {
+    }
+
+    /**
+     * The versions an If-Match header accepts: null when it is absent or {@code *} (no check),
+     * otherwise every strong tag holding a version. Weak or unknown tags never match, so a
+     * header made only of those yields an empty set and the write fails with 412.
+     */
+    static Set<Long> acceptedVersions(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.strip().equals("*")) {
+            return null;
+        }
+        Set<Long> versions = new HashSet<>();
+        for (String tag : ifMatch.split(",")) {
+            tag = tag.strip();
+            if (tag.length() > 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+                try {
+                    versions.add(Long.parseLong(tag.substring(1, tag.length() - 1)));
+                } catch (NumberFormatException e) {
+                    // not one of ours; matches nothing
+                }
+            }
+        }
+        return versions;
+    }
+}
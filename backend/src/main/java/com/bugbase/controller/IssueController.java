@@ -1,20 +1,36 @@
 package com.bugbase.controller;
 
+import com.bugbase.dto.BulkItemResult;
+import com.bugbase.dto.CursorPage;
+import com.bugbase.dto.CommentResponse;
+import com.bugbase.dto.IssueActivityResponse;
+import com.bugbase.dto.IssueDetailResponse;
+import com.bugbase.dto.IssueFilter;
+import com.bugbase.dto.IssueResponse;
+import com.bugbase.dto.KeysetCursor;
+import com.bugbase.dto.VersionStamp;
 import com.bugbase.model.Issue;
+import com.bugbase.model.IssuePriority;
 import com.bugbase.model.IssueStatus;
 import com.bugbase.model.User;
+import com.bugbase.repository.CommentRepository;
+import com.bugbase.repository.IssueActivityRepository;
 import com.bugbase.repository.IssueRepository;
 import com.bugbase.repository.ProjectRepository;
-import com.bugbase.repository.UserRepository;
+import com.bugbase.repository.ProjectVersionRepository;
+import com.bugbase.service.IssueService;
 import lombok.RequiredArgsConstructor;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 @Tag(name = "Issues", description = "Management of project issues")
@@ -25,82 +41,165 @@ import java.util.UUID;
 public class IssueController {
 
     private final IssueRepository issueRepository;
+    private final CommentRepository commentRepository;
+    private final IssueActivityRepository issueActivityRepository;
     private final ProjectRepository projectRepository;
-    private final UserRepository userRepository;
+    private final ProjectVersionRepository projectVersionRepository;
+    private final IssueService issueService;
 
-    @Operation(summary = "Get all issues for a project")
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+
+    @Operation(summary = "Get a page of issues for a project, optionally filtered")
     @GetMapping("/projects/{projectId}/issues")
-    public ResponseEntity<List<Issue>> getIssuesByProject(@PathVariable UUID projectId) {
-        if (!projectRepository.existsById(projectId)) {
+    public ResponseEntity<CursorPage<IssueResponse>> getIssuesByProject(
+            @PathVariable UUID projectId,
+            @RequestParam(required = false) IssueStatus status,
+            @RequestParam(required = false) IssuePriority priority,
+            @RequestParam(required = false) UUID assigneeId,
+            @RequestParam(required = false) UUID reporterId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int limit,
+            ServletWebRequest request) {
+
+        IssueFilter filter = IssueFilter.builder()
+                .projectId(projectId)
+                .status(status)
+                .priority(priority)
+                .assigneeId(assigneeId)
+                .reporterId(reporterId)
+                .build();
+        KeysetCursor after = cursor != null ? KeysetCursor.decode(cursor) : null;
+        int pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+
+        Optional<VersionStamp> stamp = projectVersionRepository.findByProjectId(projectId);
+        if (stamp.isPresent() && ConditionalGet.notModified(request, stamp.get())) {
+            return null;
+        }
+
+        // Fetch one extra row to learn whether another page exists
+        List<IssueResponse> issues = issueRepository.findPage(filter, after, pageSize + 1);
+        if (issues.isEmpty() && after == null && !projectRepository.existsById(projectId)) {
             return ResponseEntity.notFound().build();
         }
-        return ResponseEntity.ok(issueRepository.findByProjectId(projectId));
+
+        return ResponseEntity.ok(CursorPage.of(issues, pageSize,
+                issue -> new KeysetCursor(issue.getCreatedAt(), issue.getId())));
     }
 
     @Operation(summary = "Create a new issue in a project")
     @PostMapping("/projects/{projectId}/issues")
-    public ResponseEntity<Issue> createIssue(
+    public ResponseEntity<IssueResponse> createIssue(
             @PathVariable UUID projectId,
             @RequestBody Issue issue,
             @AuthenticationPrincipal User currentUser) {
 
-        return projectRepository.findById(projectId).map(project -> {
-            issue.setProject(project);
-            issue.setReporter(currentUser);
-            if (issue.getStatus() == null) {
-                issue.setStatus(IssueStatus.TO_DO);
-            }
-            return ResponseEntity.ok(issueRepository.save(issue));
-        }).orElse(ResponseEntity.notFound().build());
+        return issueService.createIssue(projectId, issue, currentUser)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @Operation(summary = "Create many issues in a project in one request")
+    @PostMapping("/projects/{projectId}/issues/bulk")
+    public ResponseEntity<?> createIssues(
+            @PathVariable UUID projectId,
+            @RequestBody List<Issue> issues,
+            @AuthenticationPrincipal User currentUser) {
+
+        if (issues.size() > IssueService.MAX_BULK_ITEMS) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "At most " + IssueService.MAX_BULK_ITEMS + " issues per request"));
+        }
+        Optional<List<BulkItemResult>> results = issueService.createIssues(projectId, issues, currentUser);
+        return results.isPresent() ? ResponseEntity.ok(results.get()) : ResponseEntity.notFound().build();
+    }
+
+    @Operation(summary = "Change status, priority or assignee of many issues in one request")
+    @PatchMapping("/issues/bulk")
+    public ResponseEntity<?> updateIssues(
+            @RequestBody List<Map<String, Object>> updates,
+            @AuthenticationPrincipal User currentUser) {
+        if (updates.size() > IssueService.MAX_BULK_ITEMS) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "At most " + IssueService.MAX_BULK_ITEMS + " updates per request"));
+        }
+        return ResponseEntity.ok(issueService.updateIssues(updates, currentUser));
     }
 
     @Operation(summary = "Get issue details by ID")
     @GetMapping("/issues/{id}")
-    public ResponseEntity<Issue> getIssueById(@PathVariable UUID id) {
-        return issueRepository.findById(id)
+    public ResponseEntity<IssueResponse> getIssueById(@PathVariable UUID id, ServletWebRequest request) {
+        // The ETag is the issue's version, the same tag PATCH accepts in If-Match. Renaming or
+        // deleting its reporter or assignee bumps it too (V15), since the response names them
+        Optional<Long> version = issueRepository.findVersionById(id);
+        if (version.isPresent()
+                && ConditionalGet.notModified(request, new VersionStamp(String.valueOf(version.get()), null))) {
+            return null;
+        }
+        return issueRepository.findResponseById(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
 
-    @Operation(summary = "Update an existing issue")
+    @Operation(summary = "Get an issue with its people, comment count and newest comments in one call")
+    @GetMapping("/issues/{id}/detail")
+    public ResponseEntity<IssueDetailResponse> getIssueDetail(
+            @PathVariable UUID id,
+            @RequestParam(defaultValue = "" + CommentController.DEFAULT_PAGE_SIZE) int commentLimit) {
+
+        // Two statements: the issue with a comment-count subquery, then the first comment page.
+        // Older comments are fetched through GET /issues/{id}/comments with the returned cursor.
+        Optional<IssueDetailResponse> detail = issueRepository.findDetailById(id);
+        if (detail.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        int pageSize = Math.min(Math.max(commentLimit, 1), CommentController.MAX_PAGE_SIZE);
+        List<CommentResponse> comments = detail.get().getCommentCount() == 0
+                ? List.of()
+                : commentRepository.findPage(id, null, pageSize + 1);
+        detail.get().setComments(CursorPage.of(comments, pageSize,
+                comment -> new KeysetCursor(comment.getCreatedAt(), comment.getId())));
+        return ResponseEntity.ok(detail.get());
+    }
+
+    @Operation(summary = "Get a page of an issue's change history, newest first")
+    @GetMapping("/issues/{id}/activity")
+    public ResponseEntity<CursorPage<IssueActivityResponse>> getIssueActivity(
+            @PathVariable UUID id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int limit) {
+
+        KeysetCursor before = cursor != null ? KeysetCursor.decode(cursor) : null;
+        int pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+
+        // History outlives the issue, so a deleted issue still has one
+        List<IssueActivityResponse> entries = issueActivityRepository.findPage(id, before, pageSize + 1);
+        if (entries.isEmpty() && before == null && !issueRepository.existsById(id)) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(CursorPage.of(entries, pageSize,
+                entry -> new KeysetCursor(entry.getOccurredAt(), entry.getId())));
+    }
+
+    @Operation(summary = "Update an existing issue; with If-Match, only if it is still at that version")
     @PatchMapping("/issues/{id}")
-    public ResponseEntity<Issue> updateIssue(
+    public ResponseEntity<IssueResponse> updateIssue(
             @PathVariable UUID id,
-            @RequestBody Map<String, Object> updates) {
-
-        return issueRepository.findById(id).map(issue -> {
-            if (updates.containsKey("title")) {
-                issue.setTitle((String) updates.get("title"));
-            }
-            if (updates.containsKey("description")) {
-                issue.setDescription((String) updates.get("description"));
-            }
-            if (updates.containsKey("status")) {
-                issue.setStatus(IssueStatus.valueOf((String) updates.get("status")));
-            }
-            if (updates.containsKey("priority")) {
-                issue.setPriority(com.bugbase.model.IssuePriority.valueOf((String) updates.get("priority")));
-            }
-            if (updates.containsKey("assigneeId")) {
-                String assigneeId = (String) updates.get("assigneeId");
-                if (assigneeId != null && !assigneeId.isEmpty()) {
-                    userRepository.findById(UUID.fromString(assigneeId))
-                            .ifPresent(issue::setAssignee);
-                } else {
-                    issue.setAssignee(null);
-                }
-            }
-            return ResponseEntity.ok(issueRepository.save(issue));
-        }).orElse(ResponseEntity.notFound().build());
+            @RequestBody Map<String, Object> updates,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @AuthenticationPrincipal User currentUser) {
+
+        return issueService.updateIssue(id, updates, ConditionalUpdate.acceptedVersions(ifMatch), currentUser)
+                .map(issue -> ResponseEntity.ok().eTag(issue.eTag()).body(issue))
+                .orElse(ResponseEntity.notFound().build());
     }
 
     @Operation(summary = "Delete an issue")
     @DeleteMapping("/issues/{id}")
-    public ResponseEntity<?> deleteIssue(@PathVariable UUID id) {
-        if (!issueRepository.existsById(id)) {
+    public ResponseEntity<?> deleteIssue(@PathVariable UUID id, @AuthenticationPrincipal User currentUser) {
+        if (!issueService.deleteIssue(id, currentUser)) {
             return ResponseEntity.notFound().build();
         }
-        issueRepository.deleteById(id);
         return ResponseEntity.ok(Map.of("message", "Issue deleted successfully"));
     }
 }
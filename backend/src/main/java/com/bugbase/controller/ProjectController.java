@@ -1,15 +1,39 @@
 package com.bugbase.controller;
 
+import com.bugbase.dto.CursorPage;
+import com.bugbase.dto.FeedTicketResponse;
+import com.bugbase.dto.ProjectIssueStats;
+import com.bugbase.dto.ProjectPurgeStatus;
+import com.bugbase.dto.ProjectSummary;
+import com.bugbase.dto.VersionStamp;
 import com.bugbase.model.Project;
+import com.bugbase.model.User;
 import com.bugbase.repository.ProjectRepository;
+import com.bugbase.repository.ProjectSummaryRepository;
+import com.bugbase.repository.ProjectVersionRepository;
 import com.bugbase.repository.UserRepository;
+import com.bugbase.security.JwtUtils;
+import com.bugbase.service.ProjectExportService;
+import com.bugbase.service.ProjectFeedService;
+import com.bugbase.service.ProjectPurgeService;
+import com.bugbase.service.ProjectStatsService;
 import lombok.RequiredArgsConstructor;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.net.URI;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Tag(name = "Projects", description = "Management of bug tracking projects")
@@ -20,17 +44,53 @@ import java.util.UUID;
 public class ProjectController {
 
     private final ProjectRepository projectRepository;
+    private final ProjectSummaryRepository projectSummaryRepository;
+    private final ProjectVersionRepository projectVersionRepository;
     private final UserRepository userRepository;
+    private final ProjectExportService projectExportService;
+    private final ProjectStatsService projectStatsService;
+    private final ProjectFeedService projectFeedService;
+    private final ProjectPurgeService projectPurgeService;
+    private final JwtUtils jwtUtils;
+
+    private static final int DEFAULT_PAGE_SIZE = 24;
+    private static final int MAX_PAGE_SIZE = 100;
 
     @Operation(summary = "Get all projects")
     @GetMapping
-    public List<Project> getAllProjects() {
-        return projectRepository.findAll();
+    public ResponseEntity<List<Project>> getAllProjects(ServletWebRequest request) {
+        if (ConditionalGet.notModified(request, projectVersionRepository.findAllProjects())) {
+            return null;
+        }
+        return ResponseEntity.ok(projectRepository.findAll());
+    }
+
+    @Operation(summary = "Get a page of project summaries with open issue counts and last activity")
+    @GetMapping("/summaries")
+    public ResponseEntity<CursorPage<ProjectSummary>> getProjectSummaries(
+            @RequestParam(defaultValue = "name") String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int limit,
+            ServletWebRequest request) {
+
+        ProjectSummaryRepository.Sort order = ProjectSummaryRepository.Sort.fromParam(sort);
+        int pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        if (ConditionalGet.notModified(request, projectVersionRepository.findAllProjects())) {
+            return null;
+        }
+
+        // Fetch one extra row to learn whether another page exists
+        List<ProjectSummary> rows = projectSummaryRepository.findPage(order, cursor, pageSize + 1);
+        return ResponseEntity.ok(CursorPage.withCursor(rows, pageSize, order::cursorAfter));
     }
 
     @Operation(summary = "Get project by ID")
     @GetMapping("/{id}")
-    public ResponseEntity<Project> getProjectById(@PathVariable UUID id) {
+    public ResponseEntity<Project> getProjectById(@PathVariable UUID id, ServletWebRequest request) {
+        Optional<VersionStamp> stamp = projectVersionRepository.findByProjectId(id);
+        if (stamp.isPresent() && ConditionalGet.notModified(request, stamp.get())) {
+            return null;
+        }
         return projectRepository.findById(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
@@ -42,4 +102,91 @@ public class ProjectController {
         // In real app, get 'owner' from SecurityContext
         return projectRepository.save(project);
     }
+
+    @Operation(summary = "Delete a project with its issues and comments in the background (Admin only)")
+    @DeleteMapping("/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ProjectPurgeStatus> deleteProject(@PathVariable UUID id) {
+        if (!projectRepository.existsById(id)) {
+            return ResponseEntity.notFound().build();
+        }
+        ProjectPurgeStatus status = projectPurgeService.start(id);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .location(URI.create("/projects/purge-jobs/" + status.getJobId()))
+                .body(status);
+    }
+
+    @Operation(summary = "Get the progress of a project deletion job (Admin only)")
+    @GetMapping("/purge-jobs/{jobId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ProjectPurgeStatus> getPurgeStatus(@PathVariable UUID jobId) {
+        return projectPurgeService.getStatus(jobId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @Operation(summary = "Get issue counts by status and priority for a project")
+    @GetMapping("/{id}/stats")
+    public ResponseEntity<ProjectIssueStats> getProjectStats(@PathVariable UUID id) {
+        ProjectIssueStats stats = projectStatsService.getStats(id);
+        if (stats.getTotal() == 0 && !projectRepository.existsById(id)) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(stats);
+    }
+
+    @Operation(summary = "Recompute a project's issue counts (Admin only)")
+    @PostMapping("/{id}/stats/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ProjectIssueStats> rebuildProjectStats(@PathVariable UUID id) {
+        if (!projectRepository.existsById(id)) {
+            return ResponseEntity.notFound().build();
+        }
+        projectStatsService.rebuild(id);
+        return ResponseEntity.ok(projectStatsService.getStats(id));
+    }
+
+    @Operation(summary = "Stream a project's issues, and optionally comments, as NDJSON or CSV")
+    @GetMapping("/{id}/export")
+    public ResponseEntity<StreamingResponseBody> exportProject(
+            @PathVariable UUID id,
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(defaultValue = "false") boolean includeComments) {
+
+        ProjectExportService.Format exportFormat = ProjectExportService.Format.fromParam(format);
+        if (!projectRepository.existsById(id)) {
+            return ResponseEntity.notFound().build();
+        }
+
+        projectExportService.reserveSlot();
+        StreamingResponseBody body = out -> projectExportService.export(id, exportFormat, includeComments, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"project-" + id + "." + exportFormat.getExtension() + "\"")
+                .body(body);
+    }
+
+    @Operation(summary = "Issue a short-lived ticket for opening a project's change feed")
+    @PostMapping("/{id}/feed/ticket")
+    public ResponseEntity<FeedTicketResponse> createFeedTicket(@PathVariable UUID id,
+            @AuthenticationPrincipal User currentUser) {
+        if (!projectRepository.existsById(id)) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(new FeedTicketResponse(
+                jwtUtils.generateFeedTicket(currentUser.getEmail(), id),
+                jwtUtils.getFeedTicketTtl().toSeconds()));
+    }
+
+    @Operation(summary = "Subscribe to a project's issue and comment changes as Server-Sent Events (authenticated with ?ticket=)")
+    @GetMapping(value = "/{id}/feed", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> subscribeToFeed(@PathVariable UUID id) {
+        if (!projectRepository.existsById(id)) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok()
+                .header("X-Accel-Buffering", "no") // keep reverse proxies from buffering the stream
+                .body(projectFeedService.subscribe(id));
+    }
 }
@@ -0,0 +1,42 @@
+package com.bugbase.controller;
+
+import com.bugbase.dto.IssueSearchHit;
+import com.bugbase.model.IssueStatus;
+import com.bugbase.repository.IssueSearchRepository;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Tag(name = "Search", description = "Full-text search over issues and comments")
+@CrossOrigin(origins = "*", maxAge = 3600)
+@RestController
+@RequestMapping("/search")
+@RequiredArgsConstructor
+public class SearchController {
+
+    private static final int MAX_RESULTS = 100;
+
+    private final IssueSearchRepository issueSearchRepository;
+
+    @Operation(summary = "Search issue titles, descriptions and comments, best matches first")
+    @GetMapping("/issues")
+    public ResponseEntity<?> searchIssues(
+            @RequestParam String q,
+            @RequestParam(required = false) UUID projectId,
+            @RequestParam(required = false) List<IssueStatus> status,
+            @RequestParam(defaultValue = "20") int limit) {
+
+        if (q.isBlank()) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Query must not be blank"));
+        }
+        List<IssueSearchHit> hits = issueSearchRepository.search(q, projectId, status,
+                Math.min(Math.max(limit, 1), MAX_RESULTS));
+        return ResponseEntity.ok(hits);
+    }
+}
@@ -1,13 +1,21 @@
 package com.bugbase.controller;
 
+import com.bugbase.dto.ActivityEvent;
+import com.bugbase.dto.UserSummary;
 import com.bugbase.model.Role;
 import com.bugbase.model.User;
 import com.bugbase.repository.UserRepository;
+import com.bugbase.security.SupabaseJwtConverter;
+import com.bugbase.security.UserDetailsServiceImpl;
+import com.bugbase.service.RefreshTokenService;
+import com.bugbase.service.UserAutocompleteService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -22,6 +30,14 @@ import java.util.UUID;
 public class UserController {
 
     private final UserRepository userRepository;
+    private final UserDetailsServiceImpl userDetailsService;
+    private final SupabaseJwtConverter supabaseJwtConverter;
+    private final RefreshTokenService refreshTokenService;
+    private final UserAutocompleteService userAutocompleteService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final int DEFAULT_MATCHES = 10;
+    private static final int MAX_MATCHES = 50;
 
     @Operation(summary = "Get all users (Admin only)")
     @GetMapping
@@ -30,6 +46,14 @@ public class UserController {
         return userRepository.findAll();
     }
 
+    @Operation(summary = "Find users whose email, name or a word of the name starts with q")
+    @GetMapping("/autocomplete")
+    public List<UserSummary> autocomplete(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "" + DEFAULT_MATCHES) int limit) {
+        return userAutocompleteService.search(q, Math.min(Math.max(limit, 1), MAX_MATCHES));
+    }
+
     @Operation(summary = "Get user by ID")
     @GetMapping("/{id}")
     public ResponseEntity<User> getUserById(@PathVariable UUID id) {
@@ -43,7 +67,8 @@ public class UserController {
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<?> updateUserRole(
             @PathVariable UUID id,
-            @RequestBody Map<String, String> body) {
+            @RequestBody Map<String, String> body,
+            @AuthenticationPrincipal User currentUser) {
 
         String roleName = body.get("role");
         Role newRole;
@@ -55,8 +80,16 @@ public class UserController {
 
         return userRepository.findById(id)
                 .map(user -> {
+                    Role oldRole = user.getRole();
                     user.setRole(newRole);
                     userRepository.save(user);
+                    if (oldRole != newRole) {
+                        eventPublisher.publishEvent(
+                                ActivityEvent.userField(user.getId(), currentUser.getId(), "role", oldRole, newRole));
+                    }
+                    userRepository.evictFromCache(user.getId());
+                    userDetailsService.evictUser(user.getEmail());
+                    supabaseJwtConverter.evictUser(user.getId());
                     return ResponseEntity.ok(Map.of("message", "Role updated successfully"));
                 })
                 .orElse(ResponseEntity.notFound().build());
@@ -66,10 +99,17 @@ public class UserController {
     @DeleteMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<?> deleteUser(@PathVariable UUID id) {
-        if (!userRepository.existsById(id)) {
-            return ResponseEntity.notFound().build();
-        }
-        userRepository.deleteById(id);
-        return ResponseEntity.ok(Map.of("message", "User deleted successfully"));
+        return userRepository.findById(id)
+                .map(user -> {
+                    // Refresh tokens cascade with the row, so one delete either removes both or neither
+                    userRepository.delete(user);
+                    userRepository.evictDeletedFromCache(user.getId());
+                    refreshTokenService.evictUser(user.getId());
+                    userAutocompleteService.remove(user.getId());
+                    userDetailsService.evictUser(user.getEmail());
+                    supabaseJwtConverter.evictUser(user.getId());
+                    return ResponseEntity.ok(Map.of("message", "User deleted successfully"));
+                })
+                .orElse(ResponseEntity.notFound().build());
     }
 }
@@ -0,0 +1,67 @@
+package com.bugbase.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * One entry of the activity log: who did what to which entity, and for updates which field
+ * changed from what to what. Published inside the writing transaction and recorded once it
+ * commits. {@code oldValue} is null when the previous value is unknown (bulk updates).
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ActivityEvent {
+
+    public enum Entity {
+        ISSUE,
+        COMMENT,
+        USER
+    }
+
+    public enum Action {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    private UUID id;
+    private Entity entity;
+    private UUID entityId;
+    private UUID issueId; // null for user changes
+    private UUID projectId;
+    private UUID actorId;
+    private Action action;
+    private String field;
+    private String oldValue;
+    private String newValue;
+    private LocalDateTime occurredAt;
+
+    public static ActivityEvent issue(Action action, UUID projectId, UUID issueId, UUID actorId) {
+        return new ActivityEvent(UUID.randomUUID(), Entity.ISSUE, issueId, issueId, projectId, actorId,
+                action, null, null, null, LocalDateTime.now());
+    }
+
+    public static ActivityEvent issueField(UUID projectId, UUID issueId, UUID actorId,
+            String field, Object oldValue, Object newValue) {
+        return new ActivityEvent(UUID.randomUUID(), Entity.ISSUE, issueId, issueId, projectId, actorId,
+                Action.UPDATED, field, Objects.toString(oldValue, null), Objects.toString(newValue, null),
+                LocalDateTime.now());
+    }
+
+    public static ActivityEvent comment(Action action, UUID projectId, UUID issueId, UUID commentId, UUID actorId) {
+        return new ActivityEvent(UUID.randomUUID(), Entity.COMMENT, commentId, issueId, projectId, actorId,
+                action, null, null, null, LocalDateTime.now());
+    }
+
+    public static ActivityEvent userField(UUID userId, UUID actorId, String field, Object oldValue, Object newValue) {
+        return new ActivityEvent(UUID.randomUUID(), Entity.USER, userId, null, null, actorId,
+                Action.UPDATED, field, Objects.toString(oldValue, null), Objects.toString(newValue, null),
+                LocalDateTime.now());
+    }
+}
@@ -0,0 +1,37 @@
+package com.bugbase.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Outcome of one entry of a bulk request; {@code index} is its position in the request body.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkItemResult {
+
+    public enum Status {
+        CREATED,
+        UPDATED,
+        UNCHANGED, // the issue already had these values
+        NOT_FOUND,
+        INVALID
+    }
+
+    private int index;
+    private UUID id;
+    private Status status;
+    private String message;
+
+    public static BulkItemResult of(int index, UUID id, Status status) {
+        return new BulkItemResult(index, id, status, null);
+    }
+
+    public static BulkItemResult invalid(int index, UUID id, String message) {
+        return new BulkItemResult(index, id, Status.INVALID, message);
+    }
+}
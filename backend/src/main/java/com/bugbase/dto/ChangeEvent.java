@@ -0,0 +1,59 @@
+package com.bugbase.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A committed issue or comment change, as pushed to project feed subscribers.
+ * {@code data} is the new {@link IssueResponse} / {@link CommentResponse}, or null for deletes.
+ * {@code STATS} events carry the project's {@link ProjectIssueStats} after an issue write, so
+ * subscribers never read anything back.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ChangeEvent {
+
+    public enum Entity {
+        ISSUE,
+        COMMENT,
+        STATS
+    }
+
+    public enum Action {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    private Entity entity;
+    private Action action;
+    private UUID projectId;
+    private UUID issueId;
+    private UUID id;
+    private Object data;
+    private Instant at;
+
+    public static ChangeEvent issue(Action action, UUID projectId, UUID issueId, Object data) {
+        return new ChangeEvent(Entity.ISSUE, action, projectId, issueId, issueId, data, Instant.now());
+    }
+
+    public static ChangeEvent stats(UUID projectId, ProjectIssueStats stats) {
+        return new ChangeEvent(Entity.STATS, Action.UPDATED, projectId, null, projectId, stats, Instant.now());
+    }
+
+    public static ChangeEvent comment(Action action, UUID projectId, UUID issueId, UUID commentId, Object data) {
+        return new ChangeEvent(Entity.COMMENT, action, projectId, issueId, commentId, data, Instant.now());
+    }
+
+    /**
+     * Identity used to coalesce several pending changes of the same entity into one.
+     */
+    public String coalescingKey() {
+        return entity + ":" + id;
+    }
+}
@@ -0,0 +1,36 @@
+package com.bugbase.dto;
+
+import com.bugbase.model.Comment;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CommentResponse {
+    private UUID id;
+    private UUID issueId;
+    private String content;
+    private UserSummary author;
+    private LocalDateTime createdAt;
+
+    // Flat form used by JPQL constructor expressions
+    public CommentResponse(UUID id, UUID issueId, String content, UUID authorId, String authorName,
+            LocalDateTime createdAt) {
+        this(id, issueId, content, authorId != null ? new UserSummary(authorId, authorName) : UserSummary.deleted(),
+                createdAt);
+    }
+
+    /**
+     * Requires {@code author} to be initialized.
+     */
+    public static CommentResponse from(Comment comment) {
+        return new CommentResponse(comment.getId(), comment.getIssue().getId(), comment.getContent(),
+                comment.getAuthor() != null ? UserSummary.from(comment.getAuthor()) : UserSummary.deleted(),
+                comment.getCreatedAt());
+    }
+}
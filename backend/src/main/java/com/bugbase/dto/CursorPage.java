@@ -0,0 +1,35 @@
+package com.bugbase.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CursorPage<T> {
+    private List<T> items;
+    private String nextCursor; // null when there are no more items
+
+    /**
+     * Builds a page from {@code rows} fetched with a limit of {@code pageSize + 1}: the extra row
+     * only signals that another page exists and is dropped.
+     */
+    public static <T> CursorPage<T> of(List<T> rows, int pageSize, Function<T, KeysetCursor> positionOf) {
+        return withCursor(rows, pageSize, positionOf.andThen(KeysetCursor::encode));
+    }
+
+    /**
+     * As {@link #of}, for lists whose cursor is not a {@link KeysetCursor}.
+     */
+    public static <T> CursorPage<T> withCursor(List<T> rows, int pageSize, Function<T, String> cursorAfter) {
+        if (rows.size() <= pageSize) {
+            return new CursorPage<>(rows, null);
+        }
+        List<T> items = rows.subList(0, pageSize);
+        return new CursorPage<>(items, cursorAfter.apply(items.get(pageSize - 1)));
+    }
+}
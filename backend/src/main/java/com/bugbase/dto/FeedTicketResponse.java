@@ -0,0 +1,15 @@
+package com.bugbase.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Opens one project's change feed as {@code GET /projects/{id}/feed?ticket=...}; request a new
+ * one for every connection.
+ */
+@Data
+@AllArgsConstructor
+public class FeedTicketResponse {
+    private String ticket;
+    private long expiresInSeconds;
+}
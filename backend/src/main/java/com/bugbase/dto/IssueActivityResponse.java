@@ -0,0 +1,23 @@
+package com.bugbase.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class IssueActivityResponse {
+    private UUID id;
+    private ActivityEvent.Entity entity;
+    private UUID entityId;
+    private ActivityEvent.Action action;
+    private String field; // null unless action is UPDATED
+    private String oldValue;
+    private String newValue;
+    private UserSummary actor;
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,94 @@
+package com.bugbase.dto;
+
+import com.bugbase.exception.InvalidRequestException;
+import com.bugbase.model.IssuePriority;
+import com.bugbase.model.IssueStatus;
+import lombok.Data;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * The status/priority/assignee part of a PATCH body. Each field has a "present" flag so an
+ * explicit null (unassign) differs from an absent key. Equal change sets can be applied to
+ * many issues with one UPDATE.
+ */
+@Data
+public class IssueChanges {
+    private boolean statusSet;
+    private IssueStatus status;
+    private boolean prioritySet;
+    private IssuePriority priority;
+    private boolean assigneeSet;
+    private UUID assigneeId;
+
+    /**
+     * @throws InvalidRequestException for null or unknown status and priority values, and
+     *         for values that are not strings or malformed ids
+     */
+    public static IssueChanges from(Map<String, Object> updates) {
+        IssueChanges changes = new IssueChanges();
+        if (updates.containsKey("status")) {
+            changes.statusSet = true;
+            changes.status = parseStatus(updates.get("status"));
+        }
+        if (updates.containsKey("priority")) {
+            changes.prioritySet = true;
+            changes.priority = parsePriority(updates.get("priority"));
+        }
+        if (updates.containsKey("assigneeId")) {
+            changes.assigneeSet = true;
+            changes.assigneeId = parseAssigneeId(updates.get("assigneeId"));
+        }
+        return changes;
+    }
+
+    public static IssueStatus parseStatus(Object value) {
+        return parseEnum(IssueStatus.class, "status", value);
+    }
+
+    public static IssuePriority parsePriority(Object value) {
+        return parseEnum(IssuePriority.class, "priority", value);
+    }
+
+    /**
+     * @return the assignee id, or null for an explicit null or empty string (unassign)
+     */
+    public static UUID parseAssigneeId(Object value) {
+        if (value != null && !(value instanceof String)) {
+            throw new InvalidRequestException("assigneeId must be a string");
+        }
+        String assigneeId = (String) value;
+        if (assigneeId == null || assigneeId.isEmpty()) {
+            return null;
+        }
+        try {
+            return UUID.fromString(assigneeId);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("Invalid assigneeId: " + assigneeId);
+        }
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String field, Object value) {
+        String name = requiredString(field, value);
+        try {
+            return Enum.valueOf(type, name);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("Invalid " + field + ": " + name);
+        }
+    }
+
+    private static String requiredString(String field, Object value) {
+        if (value == null) {
+            throw new InvalidRequestException(field + " must not be null");
+        }
+        if (!(value instanceof String text)) {
+            throw new InvalidRequestException(field + " must be a string");
+        }
+        return text;
+    }
+
+    public boolean isEmpty() {
+        return !statusSet && !prioritySet && !assigneeSet;
+    }
+}
@@ -0,0 +1,33 @@
+package com.bugbase.dto;
+
+import com.bugbase.model.IssuePriority;
+import com.bugbase.model.IssueStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Everything the issue page needs on first render: the issue with reporter/assignee summaries,
+ * the total comment count and the newest page of comments.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class IssueDetailResponse {
+    private IssueResponse issue;
+    private long commentCount;
+    private CursorPage<CommentResponse> comments;
+
+    // Flat form used by JPQL constructor expressions; comments are filled in afterwards
+    public IssueDetailResponse(UUID id, UUID projectId, String title, String description,
+            IssueStatus status, IssuePriority priority,
+            UUID reporterId, String reporterName, UUID assigneeId, String assigneeName,
+            LocalDateTime createdAt, LocalDateTime updatedAt, Long version, Long commentCount) {
+        this(new IssueResponse(id, projectId, title, description, status, priority,
+                reporterId, reporterName, assigneeId, assigneeName, createdAt, updatedAt, version),
+                commentCount, null);
+    }
+}
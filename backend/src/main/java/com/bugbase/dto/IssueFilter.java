@@ -0,0 +1,22 @@
+package com.bugbase.dto;
+
+import com.bugbase.model.IssuePriority;
+import com.bugbase.model.IssueStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IssueFilter {
+    private UUID projectId;
+    private IssueStatus status;
+    private IssuePriority priority;
+    private UUID assigneeId;
+    private UUID reporterId;
+}
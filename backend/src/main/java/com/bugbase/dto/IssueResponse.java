@@ -0,0 +1,54 @@
+package com.bugbase.dto;
+
+import com.bugbase.model.Issue;
+import com.bugbase.model.IssuePriority;
+import com.bugbase.model.IssueStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IssueResponse {
+    private UUID id;
+    private UUID projectId;
+    private String title;
+    private String description;
+    private IssueStatus status;
+    private IssuePriority priority;
+    private UserSummary reporter;
+    private UserSummary assignee;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private Long version; // the issue's ETag; send it back as If-Match to update conditionally
+
+    // Flat form used by JPQL/Criteria constructor expressions
+    public IssueResponse(UUID id, UUID projectId, String title, String description,
+            IssueStatus status, IssuePriority priority,
+            UUID reporterId, String reporterName, UUID assigneeId, String assigneeName,
+            LocalDateTime createdAt, LocalDateTime updatedAt, Long version) {
+        this(id, projectId, title, description, status, priority,
+                UserSummary.of(reporterId, reporterName), UserSummary.of(assigneeId, assigneeName),
+                createdAt, updatedAt, version);
+    }
+
+    /**
+     * Requires {@code reporter} and {@code assignee} to be initialized (or null).
+     */
+    public static IssueResponse from(Issue issue) {
+        return new IssueResponse(issue.getId(), issue.getProject().getId(), issue.getTitle(),
+                issue.getDescription(), issue.getStatus(), issue.getPriority(),
+                UserSummary.from(issue.getReporter()), UserSummary.from(issue.getAssignee()),
+                issue.getCreatedAt(), issue.getUpdatedAt(), issue.getVersion());
+    }
+
+    public String eTag() {
+        return "\"" + version + "\"";
+    }
+}
@@ -0,0 +1,21 @@
+package com.bugbase.dto;
+
+import com.bugbase.model.IssuePriority;
+import com.bugbase.model.IssueStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class IssueSearchHit {
+    private UUID id;
+    private UUID projectId;
+    private String title;
+    private IssueStatus status;
+    private IssuePriority priority;
+    private double rank;
+}
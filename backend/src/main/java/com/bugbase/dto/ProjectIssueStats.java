@@ -0,0 +1,18 @@
+package com.bugbase.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProjectIssueStats {
+    private UUID projectId;
+    private long total;
+    private Map<String, Long> byStatus;
+    private Map<String, Long> byPriority; // "NONE" counts issues without a priority
+}
@@ -0,0 +1,31 @@
+package com.bugbase.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProjectPurgeStatus {
+
+    public enum State {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    private UUID jobId;
+    private UUID projectId;
+    private State state;
+    private long issuesTotal; // as counted when the job started
+    private long issuesDeleted;
+    private long commentsDeleted;
+    private Instant startedAt;
+    private Instant finishedAt;
+    private String error;
+}
@@ -0,0 +1,22 @@
+package com.bugbase.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * One row of the project list: enough for a dashboard card without loading the board.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProjectSummary {
+    private UUID id;
+    private String name;
+    private UserSummary owner;
+    private long openIssues; // issues not DONE
+    private Instant lastActivityAt; // last write to the project, its issues or their comments
+}
@@ -0,0 +1,21 @@
+package com.bugbase.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * What a refresh needs to know about a stored token, without loading the entity or its user.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RefreshTokenEntry {
+    private UUID id;
+    private UUID userId;
+    private String email;
+    private Instant expiryDate;
+}
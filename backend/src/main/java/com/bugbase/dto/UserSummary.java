@@ -0,0 +1,32 @@
+package com.bugbase.dto;
+
+import com.bugbase.model.User;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * The only user fields other resources embed: never the full {@link User}.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserSummary {
+    private UUID id;
+    private String fullName;
+
+    // Shown as the author of comments whose user was deleted
+    public static UserSummary deleted() {
+        return new UserSummary(null, "Deleted user");
+    }
+
+    public static UserSummary of(UUID id, String fullName) {
+        return id != null ? new UserSummary(id, fullName) : null;
+    }
+
+    public static UserSummary from(User user) {
+        return user != null ? new UserSummary(user.getId(), user.getFullName()) : null;
+    }
+}
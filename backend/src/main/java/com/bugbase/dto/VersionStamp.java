@@ -0,0 +1,22 @@
+package com.bugbase.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Validators for a conditional GET: an opaque version tag and the time it last changed.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class VersionStamp {
+    private String tag;
+    private Instant lastModified;
+
+    public String eTag() {
+        return "\"" + tag + "\"";
+    }
+}
@@ -0,0 +1,18 @@
+package com.bugbase.exception;
+
+/**
+ * Thrown when every export slot is taken; mapped to 503 with Retry-After.
+ */
+public class ExportBusyException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public ExportBusyException(long retryAfterSeconds) {
+        super("Too many exports in progress, please retry shortly");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
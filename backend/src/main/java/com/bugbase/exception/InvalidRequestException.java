@@ -0,0 +1,12 @@
+package com.bugbase.exception;
+
+/**
+ * Thrown when a client-supplied value cannot be parsed: a cursor, a sort or format name, or a
+ * field of an update body. The only exception mapped to 400 besides Spring's own binding errors.
+ */
+public class InvalidRequestException extends RuntimeException {
+
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,18 @@
+package com.bugbase.exception;
+
+/**
+ * Thrown when the password hashing executor is saturated; mapped to 429 with Retry-After.
+ */
+public class PasswordHashingBusyException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public PasswordHashingBusyException(long retryAfterSeconds) {
+        super("Too many sign-in attempts in progress, please retry shortly");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,13 @@
+package com.bugbase.exception;
+
+import java.util.UUID;
+
+/**
+ * Thrown when a conditional write's If-Match no longer matches the stored version; mapped to 412.
+ */
+public class PreconditionFailedException extends RuntimeException {
+
+    public PreconditionFailedException(UUID id) {
+        super("Issue " + id + " was changed by someone else; reload it and retry");
+    }
+}
@@ -5,6 +5,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
 
 import java.time.Instant;
 import java.util.UUID;
@@ -21,11 +23,17 @@ public class RefreshToken {
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
-    @OneToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", referencedColumnName = "id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
     private User user;
 
-    @Column(nullable = false, unique = true)
+    // SHA-256 of the token, hex encoded; the raw token is never stored
+    @Column(nullable = false, unique = true, length = 64)
+    private String tokenHash;
+
+    // Raw token, only set on a freshly created instance so it can be handed to the client
+    @Transient
     private String token;
 
     @Column(nullable = false)
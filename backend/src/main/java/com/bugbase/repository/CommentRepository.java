@@ -1,13 +1,48 @@
 package com.bugbase.repository;
 
+import com.bugbase.dto.CommentResponse;
+import com.bugbase.dto.KeysetCursor;
 import com.bugbase.model.Comment;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
 @Repository
+@Transactional(readOnly = true)
 public interface CommentRepository extends JpaRepository<Comment, UUID> {
-    List<Comment> findByIssueId(UUID issueId);
+
+    /**
+     * Returns up to {@code limit} comments of an issue, newest first, starting strictly before
+     * {@code before} when it is non-null. Walks idx_comments_issue_created backwards.
+     */
+    default List<CommentResponse> findPage(UUID issueId, KeysetCursor before, int limit) {
+        return before == null
+                ? findNewestResponses(issueId, Limit.of(limit))
+                : findResponsesBefore(issueId, before.getCreatedAt(), before.getId(), Limit.of(limit));
+    }
+
+    @Query("""
+            select new com.bugbase.dto.CommentResponse(c.id, c.issue.id, c.content, a.id, a.fullName, c.createdAt)
+            from Comment c left join c.author a
+            where c.issue.id = :issueId
+            order by c.createdAt desc, c.id desc
+            """)
+    List<CommentResponse> findNewestResponses(UUID issueId, Limit limit);
+
+    // created_at <= ? bounds the index range scan; the OR only breaks ties on id
+    @Query("""
+            select new com.bugbase.dto.CommentResponse(c.id, c.issue.id, c.content, a.id, a.fullName, c.createdAt)
+            from Comment c left join c.author a
+            where c.issue.id = :issueId
+              and c.createdAt <= :createdAt
+              and (c.createdAt < :createdAt or c.id < :id)
+            order by c.createdAt desc, c.id desc
+            """)
+    List<CommentResponse> findResponsesBefore(UUID issueId, LocalDateTime createdAt, UUID id, Limit limit);
 }
@@ -0,0 +1,59 @@
+package com.bugbase.repository;
+
+import com.bugbase.dto.ActivityEvent;
+import com.bugbase.dto.IssueActivityResponse;
+import com.bugbase.dto.KeysetCursor;
+import com.bugbase.dto.UserSummary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reads the issue_activity log written by {@link com.bugbase.service.ActivityLogService}.
+ * Entries appear shortly after the change commits, not with it.
+ */
+@Repository
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class IssueActivityRepository {
+
+    private static final String SELECT_SQL = """
+            SELECT a.id, a.entity, a.entity_id, a.action, a.field, a.old_value, a.new_value,
+                   a.actor_id, u.full_name AS actor_name, a.occurred_at
+            FROM issue_activity a
+            LEFT JOIN users u ON u.id = a.actor_id
+            WHERE a.issue_id = ?
+            """;
+    private static final String ORDER_SQL = " ORDER BY a.occurred_at DESC, a.id DESC LIMIT ?";
+
+    private static final RowMapper<IssueActivityResponse> ACTIVITY = (rs, rowNum) -> new IssueActivityResponse(
+            rs.getObject("id", UUID.class),
+            ActivityEvent.Entity.valueOf(rs.getString("entity")),
+            rs.getObject("entity_id", UUID.class),
+            ActivityEvent.Action.valueOf(rs.getString("action")),
+            rs.getString("field"),
+            rs.getString("old_value"),
+            rs.getString("new_value"),
+            UserSummary.of(rs.getObject("actor_id", UUID.class), rs.getString("actor_name")),
+            rs.getTimestamp("occurred_at").toLocalDateTime());
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Up to {@code limit} entries for the issue and its comments, newest first, starting
+     * before {@code before} when given.
+     */
+    public List<IssueActivityResponse> findPage(UUID issueId, KeysetCursor before, int limit) {
+        if (before == null) {
+            return jdbcTemplate.query(SELECT_SQL + ORDER_SQL, ACTIVITY, issueId, limit);
+        }
+        return jdbcTemplate.query(SELECT_SQL + " AND (a.occurred_at, a.id) < (?, ?)" + ORDER_SQL, ACTIVITY,
+                issueId, Timestamp.valueOf(before.getCreatedAt()), before.getId(), limit);
+    }
+}
@@ -1,13 +1,56 @@
 package com.bugbase.repository;
 
+import com.bugbase.dto.IssueDetailResponse;
+import com.bugbase.dto.IssueResponse;
 import com.bugbase.model.Issue;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface IssueRepository extends JpaRepository<Issue, UUID> {
-    List<Issue> findByProjectId(UUID projectId);
+public interface IssueRepository extends JpaRepository<Issue, UUID>, IssueRepositoryCustom {
+
+    @Query("""
+            select new com.bugbase.dto.IssueResponse(i.id, i.project.id, i.title, i.description, i.status,
+                    i.priority, r.id, r.fullName, a.id, a.fullName, i.createdAt, i.updatedAt, i.version)
+            from Issue i left join i.reporter r left join i.assignee a
+            where i.id = :id
+            """)
+    @Transactional(readOnly = true)
+    Optional<IssueResponse> findResponseById(UUID id);
+
+    @Query("""
+            select new com.bugbase.dto.IssueResponse(i.id, i.project.id, i.title, i.description, i.status,
+                    i.priority, r.id, r.fullName, a.id, a.fullName, i.createdAt, i.updatedAt, i.version)
+            from Issue i left join i.reporter r left join i.assignee a
+            where i.id in :ids
+            """)
+    List<IssueResponse> findResponsesByIdIn(Collection<UUID> ids);
+
+    @Query("select i.version from Issue i where i.id = :id")
+    @Transactional(readOnly = true)
+    Optional<Long> findVersionById(UUID id);
+
+    @Query("""
+            select new com.bugbase.dto.IssueDetailResponse(i.id, i.project.id, i.title, i.description, i.status,
+                    i.priority, r.id, r.fullName, a.id, a.fullName, i.createdAt, i.updatedAt, i.version,
+                    (select count(c) from Comment c where c.issue = i))
+            from Issue i left join i.reporter r left join i.assignee a
+            where i.id = :id
+            """)
+    @Transactional(readOnly = true)
+    Optional<IssueDetailResponse> findDetailById(UUID id);
+
+    @EntityGraph(attributePaths = {"reporter", "assignee"})
+    Optional<Issue> findWithPeopleById(UUID id);
+
+    @Query("select i.project.id from Issue i where i.id = :id")
+    Optional<UUID> findProjectIdById(UUID id);
 }
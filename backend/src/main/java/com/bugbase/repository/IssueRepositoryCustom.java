@@ -0,0 +1,50 @@
+package com.bugbase.repository;
+
+import com.bugbase.dto.IssueChanges;
+import com.bugbase.dto.IssueFilter;
+import com.bugbase.dto.IssueResponse;
+import com.bugbase.dto.KeysetCursor;
+import com.bugbase.model.IssuePriority;
+import com.bugbase.model.IssueStatus;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface IssueRepositoryCustom {
+
+    /**
+     * Returns up to {@code limit} issue projections matching the filter, ordered by (createdAt, id)
+     * and starting strictly after {@code after} when it is non-null.
+     */
+    List<IssueResponse> findPage(IssueFilter filter, KeysetCursor after, int limit);
+
+    /**
+     * Applies the same changes to every issue in {@code ids} with a single statement that locks
+     * the rows, and writes only those the changes actually alter. Bypasses the persistence
+     * context, so call it before loading any of these issues.
+     *
+     * @return one entry per issue that exists, with its values before and after
+     */
+    List<BulkUpdate> bulkUpdate(Collection<UUID> ids, IssueChanges changes);
+
+    /**
+     * Applies {@code changes} to one issue with a single UPDATE ... RETURNING, without loading it
+     * first. Only the changed columns, version and updatedAt are written. When
+     * {@code expectedVersions} is non-null the update only happens if the issue is at one of
+     * them. An unknown assignee id leaves the assignee unchanged, as in a regular PATCH.
+     *
+     * @return the updated issue with its previous values, or empty if no row matched (no such
+     * issue, or a version mismatch)
+     */
+    Optional<FieldUpdate> updateFields(UUID id, IssueChanges changes, Collection<Long> expectedVersions);
+
+    record FieldUpdate(IssueResponse issue, IssueStatus oldStatus, IssuePriority oldPriority, UUID oldAssigneeId) {
+    }
+
+    record BulkUpdate(UUID id, UUID projectId, boolean changed,
+            IssueStatus oldStatus, IssuePriority oldPriority, UUID oldAssigneeId,
+            IssueStatus status, IssuePriority priority, UUID assigneeId) {
+    }
+}
@@ -0,0 +1,217 @@
+package com.bugbase.repository;
+
+import com.bugbase.dto.IssueChanges;
+import com.bugbase.dto.IssueFilter;
+import com.bugbase.dto.IssueResponse;
+import com.bugbase.dto.KeysetCursor;
+import com.bugbase.model.Issue;
+import com.bugbase.model.IssuePriority;
+import com.bugbase.model.IssueStatus;
+import com.bugbase.model.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+public class IssueRepositoryCustomImpl implements IssueRepositoryCustom {
+
+    // The locked self-join exposes the pre-update values to RETURNING, which only sees new ones
+    private static final String UPDATE_FIELDS_SQL = """
+            UPDATE issues i SET %s, version = i.version + 1, updated_at = :updatedAt
+            FROM (SELECT id, status, priority, assignee_id FROM issues WHERE id = :id FOR UPDATE) old
+            WHERE i.id = old.id %s
+            RETURNING i.id, i.project_id, i.title, i.description, i.status, i.priority,
+                      i.reporter_id, (SELECT full_name FROM users WHERE id = i.reporter_id) AS reporter_name,
+                      i.assignee_id, (SELECT full_name FROM users WHERE id = i.assignee_id) AS assignee_name,
+                      i.created_at, i.updated_at, i.version,
+                      old.status AS old_status, old.priority AS old_priority, old.assignee_id AS old_assignee_id
+            """;
+
+    // Locks the rows in id order and reports each with its old values, whether or not the
+    // UPDATE had to write it
+    private static final String BULK_UPDATE_SQL = """
+            WITH old AS (
+                SELECT id, project_id, status, priority, assignee_id FROM issues
+                WHERE id IN (:ids) ORDER BY id FOR UPDATE
+            ), updated AS (
+                UPDATE issues i SET %s, version = i.version + 1, updated_at = :updatedAt
+                FROM old
+                WHERE i.id = old.id AND (%s)
+                RETURNING i.id, i.status, i.priority, i.assignee_id
+            )
+            SELECT old.id, old.project_id, updated.id IS NOT NULL AS changed,
+                   old.status AS old_status, old.priority AS old_priority, old.assignee_id AS old_assignee_id,
+                   updated.status, updated.priority, updated.assignee_id
+            FROM old LEFT JOIN updated ON updated.id = old.id
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<IssueResponse> findPage(IssueFilter filter, KeysetCursor after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<IssueResponse> query = cb.createQuery(IssueResponse.class);
+        Root<Issue> issue = query.from(Issue.class);
+        Join<Issue, User> reporter = issue.join("reporter", JoinType.LEFT);
+        Join<Issue, User> assignee = issue.join("assignee", JoinType.LEFT);
+
+        // One statement: the projection reads reporter/assignee names through the joins
+        query.select(cb.construct(IssueResponse.class,
+                        issue.get("id"), issue.get("project").get("id"), issue.get("title"),
+                        issue.get("description"), issue.get("status"), issue.get("priority"),
+                        reporter.get("id"), reporter.get("fullName"),
+                        assignee.get("id"), assignee.get("fullName"),
+                        issue.get("createdAt"), issue.get("updatedAt"), issue.get("version")))
+                .where(pagePredicates(cb, issue, filter, after).toArray(Predicate[]::new))
+                .orderBy(cb.asc(issue.get("createdAt")), cb.asc(issue.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<BulkUpdate> bulkUpdate(Collection<UUID> ids, IssueChanges changes) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("ids", ids)
+                .addValue("updatedAt", Timestamp.valueOf(LocalDateTime.now()));
+        // column -> new value expression; a row is written only if one of them differs
+        Map<String, String> values = new LinkedHashMap<>();
+        if (changes.isStatusSet()) {
+            values.put("status", ":status");
+            params.addValue("status", changes.getStatus().name());
+        }
+        if (changes.isPrioritySet()) {
+            values.put("priority", ":priority");
+            params.addValue("priority", changes.getPriority().name());
+        }
+        if (changes.isAssigneeSet()) {
+            if (changes.getAssigneeId() != null) {
+                values.put("assignee_id", "coalesce((SELECT u.id FROM users u WHERE u.id = :assigneeId), i.assignee_id)");
+                params.addValue("assigneeId", changes.getAssigneeId());
+            } else {
+                values.put("assignee_id", "NULL::uuid");
+            }
+        }
+        String assignments = values.entrySet().stream()
+                .map(value -> value.getKey() + " = " + value.getValue())
+                .collect(Collectors.joining(", "));
+        String changedCheck = values.entrySet().stream()
+                .map(value -> "i." + value.getKey() + " IS DISTINCT FROM " + value.getValue())
+                .collect(Collectors.joining(" OR "));
+
+        String sql = BULK_UPDATE_SQL.formatted(assignments, changedCheck);
+        return jdbcTemplate.query(sql, params, (rs, rowNum) -> {
+            IssueStatus oldStatus = enumOrNull(IssueStatus.class, rs.getString("old_status"));
+            IssuePriority oldPriority = enumOrNull(IssuePriority.class, rs.getString("old_priority"));
+            UUID oldAssigneeId = rs.getObject("old_assignee_id", UUID.class);
+            boolean changed = rs.getBoolean("changed");
+            return new BulkUpdate(rs.getObject("id", UUID.class), rs.getObject("project_id", UUID.class), changed,
+                    oldStatus, oldPriority, oldAssigneeId,
+                    changed ? enumOrNull(IssueStatus.class, rs.getString("status")) : oldStatus,
+                    changed ? enumOrNull(IssuePriority.class, rs.getString("priority")) : oldPriority,
+                    changed ? rs.getObject("assignee_id", UUID.class) : oldAssigneeId);
+        });
+    }
+
+    @Override
+    public Optional<FieldUpdate> updateFields(UUID id, IssueChanges changes, Collection<Long> expectedVersions) {
+        List<String> assignments = new ArrayList<>();
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("id", id)
+                .addValue("updatedAt", Timestamp.valueOf(LocalDateTime.now()));
+        if (changes.isStatusSet()) {
+            assignments.add("status = :status");
+            params.addValue("status", changes.getStatus().name());
+        }
+        if (changes.isPrioritySet()) {
+            assignments.add("priority = :priority");
+            params.addValue("priority", changes.getPriority().name());
+        }
+        if (changes.isAssigneeSet()) {
+            if (changes.getAssigneeId() != null) {
+                assignments.add("assignee_id = coalesce((SELECT u.id FROM users u WHERE u.id = :assigneeId), i.assignee_id)");
+                params.addValue("assigneeId", changes.getAssigneeId());
+            } else {
+                assignments.add("assignee_id = NULL");
+            }
+        }
+        String versionCheck = "";
+        if (expectedVersions != null) {
+            versionCheck = "AND i.version IN (:versions)";
+            params.addValue("versions", expectedVersions);
+        }
+
+        String sql = UPDATE_FIELDS_SQL.formatted(String.join(", ", assignments), versionCheck);
+        return jdbcTemplate.query(sql, params, (rs, rowNum) -> new FieldUpdate(
+                new IssueResponse(
+                        rs.getObject("id", UUID.class), rs.getObject("project_id", UUID.class),
+                        rs.getString("title"), rs.getString("description"),
+                        enumOrNull(IssueStatus.class, rs.getString("status")),
+                        enumOrNull(IssuePriority.class, rs.getString("priority")),
+                        rs.getObject("reporter_id", UUID.class), rs.getString("reporter_name"),
+                        rs.getObject("assignee_id", UUID.class), rs.getString("assignee_name"),
+                        toLocalDateTime(rs.getTimestamp("created_at")), toLocalDateTime(rs.getTimestamp("updated_at")),
+                        rs.getLong("version")),
+                enumOrNull(IssueStatus.class, rs.getString("old_status")),
+                enumOrNull(IssuePriority.class, rs.getString("old_priority")),
+                rs.getObject("old_assignee_id", UUID.class))).stream().findFirst();
+    }
+
+    private static <E extends Enum<E>> E enumOrNull(Class<E> type, String value) {
+        return value != null ? Enum.valueOf(type, value) : null;
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+
+    private static List<Predicate> pagePredicates(CriteriaBuilder cb, Root<Issue> issue, IssueFilter filter, KeysetCursor after) {
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(issue.get("project").get("id"), filter.getProjectId()));
+        if (filter.getStatus() != null) {
+            predicates.add(cb.equal(issue.get("status"), filter.getStatus()));
+        }
+        if (filter.getPriority() != null) {
+            predicates.add(cb.equal(issue.get("priority"), filter.getPriority()));
+        }
+        if (filter.getAssigneeId() != null) {
+            predicates.add(cb.equal(issue.get("assignee").get("id"), filter.getAssigneeId()));
+        }
+        if (filter.getReporterId() != null) {
+            predicates.add(cb.equal(issue.get("reporter").get("id"), filter.getReporterId()));
+        }
+        if (after != null) {
+            // created_at >= ? bounds the index range scan; the OR only breaks ties on id
+            predicates.add(cb.greaterThanOrEqualTo(issue.<LocalDateTime>get("createdAt"), after.getCreatedAt()));
+            predicates.add(cb.or(
+                    cb.greaterThan(issue.<LocalDateTime>get("createdAt"), after.getCreatedAt()),
+                    cb.greaterThan(issue.<UUID>get("id"), after.getId())));
+        }
+        return predicates;
+    }
+}
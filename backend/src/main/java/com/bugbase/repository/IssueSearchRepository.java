@@ -0,0 +1,66 @@
+package com.bugbase.repository;
+
+import com.bugbase.dto.IssueSearchHit;
+import com.bugbase.model.IssuePriority;
+import com.bugbase.model.IssueStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Ranked full-text search over issue title/description and comment content, backed by the
+ * {@code search_vector} GIN indexes from V5.
+ */
+@Repository
+@RequiredArgsConstructor
+public class IssueSearchRepository {
+
+    // Title hits weigh more than description hits (setweight A/B); comment hits count half
+    private static final String SEARCH_SQL = """
+            WITH query AS (SELECT websearch_to_tsquery('english', :q) AS q),
+            hits AS (
+                SELECT i.id AS issue_id, ts_rank(i.search_vector, query.q) AS rank
+                FROM issues i, query
+                WHERE i.search_vector @@ query.q %1$s
+                UNION ALL
+                SELECT c.issue_id, ts_rank(c.search_vector, query.q) * 0.5
+                FROM comments c JOIN issues i ON i.id = c.issue_id, query
+                WHERE c.search_vector @@ query.q %1$s
+            )
+            SELECT i.id, i.project_id, i.title, i.status, i.priority, max(h.rank) AS rank
+            FROM hits h JOIN issues i ON i.id = h.issue_id
+            GROUP BY i.id
+            ORDER BY rank DESC, i.id
+            LIMIT :limit
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public List<IssueSearchHit> search(String text, UUID projectId, Collection<IssueStatus> statuses, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("q", text)
+                .addValue("limit", limit);
+        StringBuilder filters = new StringBuilder();
+        if (projectId != null) {
+            filters.append(" AND i.project_id = :projectId");
+            params.addValue("projectId", projectId);
+        }
+        if (statuses != null && !statuses.isEmpty()) {
+            filters.append(" AND i.status IN (:statuses)");
+            params.addValue("statuses", statuses.stream().map(Enum::name).toList());
+        }
+
+        return jdbcTemplate.query(SEARCH_SQL.formatted(filters), params, (rs, rowNum) -> new IssueSearchHit(
+                rs.getObject("id", UUID.class),
+                rs.getObject("project_id", UUID.class),
+                rs.getString("title"),
+                rs.getString("status") != null ? IssueStatus.valueOf(rs.getString("status")) : null,
+                rs.getString("priority") != null ? IssuePriority.valueOf(rs.getString("priority")) : null,
+                rs.getDouble("rank")));
+    }
+}
@@ -2,10 +2,17 @@ package com.bugbase.repository;
 
 import com.bugbase.model.Project;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.UUID;
 
 @Repository
+@Transactional(readOnly = true)
 public interface ProjectRepository extends JpaRepository<Project, UUID> {
+
+    @Query("select p.id from Project p")
+    List<UUID> findAllIds();
 }
@@ -0,0 +1,116 @@
+package com.bugbase.repository;
+
+import com.bugbase.dto.ProjectSummary;
+import com.bugbase.dto.UserSummary;
+import com.bugbase.exception.InvalidRequestException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Pages of {@link ProjectSummary} in one statement. Counts come from project_issue_stats (V4)
+ * and activity from project_versions (V6), both kept current by triggers, so a page costs the
+ * same however many issues and comments the projects hold.
+ */
+@Repository
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ProjectSummaryRepository {
+
+    // Every project has a project_versions row from its insert trigger (V6)
+    private static final String PAGE_SQL = """
+            SELECT p.id, p.name, p.owner_id, u.full_name AS owner_name,
+                   o.open_issues, v.updated_at AS last_activity_at
+            FROM projects p
+            JOIN project_versions v ON v.project_id = p.id
+            LEFT JOIN users u ON u.id = p.owner_id
+            CROSS JOIN LATERAL (
+                SELECT coalesce(sum(s.issue_count), 0) AS open_issues
+                FROM project_issue_stats s
+                WHERE s.project_id = p.id AND s.status <> 'DONE') o
+            """;
+
+    private static final RowMapper<ProjectSummary> SUMMARY = (rs, rowNum) -> new ProjectSummary(
+            rs.getObject("id", UUID.class),
+            rs.getString("name"),
+            UserSummary.of(rs.getObject("owner_id", UUID.class), rs.getString("owner_name")),
+            rs.getLong("open_issues"),
+            rs.getTimestamp("last_activity_at").toInstant());
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Getter
+    @RequiredArgsConstructor
+    public enum Sort {
+        NAME("p.name", "p.id", true, ProjectSummary::getName, value -> value),
+        LAST_ACTIVITY("v.updated_at", "v.project_id", false,
+                ProjectSummary::getLastActivityAt, value -> Timestamp.from(Instant.parse(value))),
+        OPEN_ISSUES("o.open_issues", "p.id", false, ProjectSummary::getOpenIssues, Long::valueOf);
+
+        private final String column;
+        private final String tieBreaker;
+        private final boolean ascending;
+        private final Function<ProjectSummary, Object> key;
+        private final Function<String, Object> parser;
+
+        public static Sort fromParam(String value) {
+            try {
+                return valueOf(value.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new InvalidRequestException("Unsupported sort: " + value);
+            }
+        }
+
+        /**
+         * Opaque position after {@code summary} in this order, for {@link #findPage}.
+         */
+        public String cursorAfter(ProjectSummary summary) {
+            String raw = name() + "|" + summary.getId() + "|" + key.apply(summary);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * Up to {@code limit} summaries in {@code sort} order, starting after {@code cursor} when given.
+     */
+    public List<ProjectSummary> findPage(Sort sort, String cursor, int limit) {
+        String direction = sort.isAscending() ? "" : " DESC";
+        String orderBy = " ORDER BY " + sort.getColumn() + direction + ", " + sort.getTieBreaker() + direction
+                + " LIMIT ?";
+        if (cursor == null) {
+            return jdbcTemplate.query(PAGE_SQL + orderBy, SUMMARY, limit);
+        }
+
+        Object[] after = decode(sort, cursor);
+        String where = " WHERE (" + sort.getColumn() + ", " + sort.getTieBreaker() + ") "
+                + (sort.isAscending() ? ">" : "<") + " (?, ?)";
+        return jdbcTemplate.query(PAGE_SQL + where + orderBy, SUMMARY, after[0], after[1], limit);
+    }
+
+    private static Object[] decode(Sort sort, String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            // The sort value goes last: names may contain the separator
+            String[] parts = raw.split("\\|", 3);
+            if (!parts[0].equals(sort.name())) {
+                throw new IllegalArgumentException("cursor from another sort");
+            }
+            return new Object[]{sort.getParser().apply(parts[2]), UUID.fromString(parts[1])};
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new InvalidRequestException("Invalid cursor: " + cursor);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.bugbase.repository;
+
+import com.bugbase.dto.VersionStamp;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Reads the change stamps kept by the V6 and V14 triggers. Every lookup is a single
+ * primary-key probe, cheap enough to run before each conditional GET.
+ */
+@Repository
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ProjectVersionRepository {
+
+    private static final RowMapper<VersionStamp> PROJECT_STAMP = (rs, rowNum) -> new VersionStamp(
+            "v" + rs.getLong("version"),
+            rs.getTimestamp("updated_at").toInstant());
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Optional<VersionStamp> findByProjectId(UUID projectId) {
+        return jdbcTemplate.query(
+                "SELECT version, updated_at FROM project_versions WHERE project_id = ?",
+                PROJECT_STAMP, projectId).stream().findFirst();
+    }
+
+    /**
+     * Stamp of the project owning the issue; covers the issue and its comments, including the
+     * names of the people in them (V15).
+     */
+    public Optional<VersionStamp> findByIssueId(UUID issueId) {
+        return jdbcTemplate.query("""
+                SELECT v.version, v.updated_at
+                FROM issues i JOIN project_versions v ON v.project_id = i.project_id
+                WHERE i.id = ?
+                """, PROJECT_STAMP, issueId).stream().findFirst();
+    }
+
+    /**
+     * Stamp of the whole project list, a single row bumped by every transaction that changes
+     * any project stamp, including deletes (V14).
+     */
+    public VersionStamp findAllProjects() {
+        return jdbcTemplate.queryForObject(
+                "SELECT version, updated_at FROM project_list_version", PROJECT_STAMP);
+    }
+}
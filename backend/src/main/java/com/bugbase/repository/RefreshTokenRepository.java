@@ -1,18 +1,42 @@
 package com.bugbase.repository;
 
+import com.bugbase.dto.RefreshTokenEntry;
 import com.bugbase.model.RefreshToken;
-import com.bugbase.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, UUID> {
-    Optional<RefreshToken> findByToken(String token);
 
+    @Query("select new com.bugbase.dto.RefreshTokenEntry(t.id, u.id, u.email, t.expiryDate) "
+            + "from RefreshToken t join t.user u where t.tokenHash = :tokenHash")
+    Optional<RefreshTokenEntry> findEntryByTokenHash(String tokenHash);
+
+    @Transactional
+    @Modifying
+    @Query("delete from RefreshToken t where t.id = :id")
+    int deleteEntryById(UUID id);
+
+    @Transactional
+    @Modifying
+    @Query("delete from RefreshToken t where t.user.id = :userId")
+    int deleteByUserId(UUID userId);
+
+    /**
+     * Deletes up to {@code batchSize} tokens that expired before {@code now}, oldest first,
+     * walking idx_refresh_tokens_expiry_date. Each call is its own short transaction.
+     */
+    @Transactional
     @Modifying
-    int deleteByUser(User user);
+    @Query(value = "DELETE FROM refresh_tokens WHERE id IN ("
+            + "SELECT id FROM refresh_tokens WHERE expiry_date < :now ORDER BY expiry_date LIMIT :batchSize)",
+            nativeQuery = true)
+    int deleteExpiredBatch(Instant now, int batchSize);
 }
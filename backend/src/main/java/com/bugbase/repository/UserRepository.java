@@ -2,14 +2,17 @@ package com.bugbase.repository;
 
 import com.bugbase.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, UUID> {
-    Optional<User> findByEmail(String email);
-
+public interface UserRepository extends JpaRepository<User, UUID>, UserRepositoryCustom {
     Boolean existsByEmail(String email);
+
+    @Query("select u.id from User u where u.id in :ids")
+    List<UUID> findExistingIds(Collection<UUID> ids);
 }
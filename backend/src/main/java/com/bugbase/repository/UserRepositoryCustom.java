@@ -0,0 +1,27 @@
+package com.bugbase.repository;
+
+import com.bugbase.model.User;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface UserRepositoryCustom {
+
+    /**
+     * Loads a user by its email natural id. Served from the second-level cache when both the
+     * email and the user are cached, so principal resolution usually runs no SQL at all.
+     */
+    Optional<User> findByEmail(String email);
+
+    /**
+     * Drops a user from the second-level cache. Writes through JPA keep the cache current on
+     * their own; call this after admin changes so no other path can serve a stale copy.
+     */
+    void evictFromCache(UUID id);
+
+    /**
+     * Evicts what a deleted user leaves stale in the second-level cache: the user itself and any
+     * project it owned, whose owner the database nulls out without Hibernate seeing it.
+     */
+    void evictDeletedFromCache(UUID id);
+}
@@ -0,0 +1,44 @@
+package com.bugbase.repository;
+
+import com.bugbase.model.Project;
+import com.bugbase.model.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Cache;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<User> findByEmail(String email) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(User.class)
+                .loadOptional(email);
+    }
+
+    @Override
+    public void evictFromCache(UUID id) {
+        Cache cache = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getCache();
+        cache.evictEntityData(User.class, id);
+        // Natural-id entries are keyed by email and can't be addressed by id. Admin writes are
+        // rare, so dropping the whole region is cheaper than resolving the key.
+        cache.evictNaturalIdData(User.class);
+    }
+
+    @Override
+    public void evictDeletedFromCache(UUID id) {
+        evictFromCache(id);
+        // projects.owner_id is ON DELETE SET NULL (V8); user deletes are rare enough to drop the region
+        entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getCache()
+                .evictEntityData(Project.class);
+    }
+}
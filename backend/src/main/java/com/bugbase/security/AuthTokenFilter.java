@@ -17,6 +17,9 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 @Component
 public class AuthTokenFilter extends OncePerRequestFilter {
@@ -29,13 +32,16 @@ public class AuthTokenFilter extends OncePerRequestFilter {
 
     private static final Logger logger = LoggerFactory.getLogger(AuthTokenFilter.class);
 
+    private static final Pattern FEED_PATH = Pattern.compile("/projects/([0-9a-fA-F-]{36})/feed");
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
         try {
             String jwt = parseJwt(request);
-            if (jwt != null && jwtUtils.validateJwtToken(jwt)) {
-                String username = jwtUtils.getUserNameFromJwtToken(jwt);
+            VerifiedJwt verified = jwt != null ? jwtUtils.verify(jwt).orElse(null) : parseFeedTicket(request);
+            if (verified != null) {
+                String username = verified.getSubject();
 
                 UserDetails userDetails = userDetailsService.loadUserByUsername(username);
                 UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
@@ -62,4 +68,23 @@ public class AuthTokenFilter extends OncePerRequestFilter {
 
         return null;
     }
+
+    // EventSource cannot set headers, so opening a change feed takes a feed ticket in the query
+    private VerifiedJwt parseFeedTicket(HttpServletRequest request) {
+        String ticket = request.getParameter("ticket");
+        if (!StringUtils.hasText(ticket) || !"GET".equals(request.getMethod())) {
+            return null;
+        }
+        Matcher feedPath = FEED_PATH.matcher(request.getRequestURI().substring(request.getContextPath().length()));
+        if (!feedPath.matches()) {
+            return null;
+        }
+        UUID projectId;
+        try {
+            projectId = UUID.fromString(feedPath.group(1));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        return jwtUtils.verifyFeedTicket(ticket, projectId).orElse(null);
+    }
 }
@@ -1,17 +1,30 @@
 package com.bugbase.security;
 
 import com.bugbase.model.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
 
 @Component
 public class JwtUtils {
@@ -23,51 +36,120 @@ public class JwtUtils {
     @Value("${bugbase.app.jwtExpirationMs:86400000}") // 24 hours
     private int jwtExpirationMs;
 
+    @Value("${bugbase.app.jwtCacheEnabled:false}")
+    private boolean jwtCacheEnabled;
+
+    @Value("${bugbase.app.jwtCacheMaxSize:10000}")
+    private long jwtCacheMaxSize;
+
+    @Value("${bugbase.app.feedTicketTtl:PT60S}")
+    private Duration feedTicketTtl;
+
+    // Audience of feed tickets; access tokens carry none
+    private static final String FEED_AUDIENCE_PREFIX = "feed:";
+
+    // Built once: both the HMAC key and the parser are immutable and thread-safe
+    private Key signingKey;
+    private JwtParser parser;
+
+    // SHA-256 of already verified tokens, each entry expiring with its token; null when disabled
+    private Cache<String, VerifiedJwt> verifiedTokens;
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        parser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+        if (jwtCacheEnabled) {
+            verifiedTokens = Caffeine.newBuilder()
+                    .maximumSize(jwtCacheMaxSize)
+                    .expireAfter(new ExpireWithToken())
+                    .build();
+        }
+    }
+
     public String generateJwtToken(Authentication authentication) {
         User userPrincipal = (User) authentication.getPrincipal();
+        return generateTokenFromEmail(userPrincipal.getUsername());
+    }
 
+    public String generateTokenFromEmail(String email) {
         return Jwts.builder()
-                .setSubject((userPrincipal.getUsername()))
+                .setSubject(email)
                 .setIssuedAt(new Date())
                 .setExpiration(new Date((new Date()).getTime() + jwtExpirationMs))
-                .signWith(key(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    public String generateTokenFromEmail(String email) {
+    /**
+     * A short-lived token that only opens {@code projectId}'s change feed. EventSource cannot
+     * send headers, so the ticket travels in the URL, where access and proxy logs keep it; unlike
+     * an access token it is worthless once it expires and never authenticates anything else.
+     */
+    public String generateFeedTicket(String email, UUID projectId) {
+        Date now = new Date();
         return Jwts.builder()
                 .setSubject(email)
-                .setIssuedAt(new Date())
-                .setExpiration(new Date((new Date()).getTime() + jwtExpirationMs))
-                .signWith(key(), SignatureAlgorithm.HS256)
+                .setAudience(FEED_AUDIENCE_PREFIX + projectId)
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + feedTicketTtl.toMillis()))
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    private Key key() {
-        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(generateSafeSecret()));
+    public Duration getFeedTicketTtl() {
+        return feedTicketTtl;
     }
 
-    // Helper to ensure we have a valid Base64 key if the property is plain text or
-    // weak
-    private String generateSafeSecret() {
-        // In prod this should be a real Base64 string from env var
-        // For local dev, we encode our hardcoded secret if needed or use it directly if
-        // it's already encoded
-        // For simplicity, let's assuming jwtSecret is a simple string and we encode it
-        return java.util.Base64.getEncoder().encodeToString(jwtSecret.getBytes());
+    public Optional<VerifiedJwt> verifyFeedTicket(String ticket, UUID projectId) {
+        return Optional.ofNullable(parse(ticket, FEED_AUDIENCE_PREFIX + projectId));
+    }
+
+    /**
+     * Verifies the signature and expiry of {@code token} with a single parse and returns its
+     * claims, or empty when the token is not acceptable. Feed tickets are not access tokens.
+     */
+    public Optional<VerifiedJwt> verify(String token) {
+        String digest = null;
+        if (verifiedTokens != null && token != null) {
+            digest = digest(token);
+            VerifiedJwt cached = verifiedTokens.getIfPresent(digest);
+            if (cached != null && cached.getExpiresAt().isAfter(Instant.now())) {
+                return Optional.of(cached);
+            }
+        }
+
+        VerifiedJwt verified = parse(token, null);
+        if (verified != null && digest != null) {
+            verifiedTokens.put(digest, verified);
+        }
+        return Optional.ofNullable(verified);
     }
 
     public String getUserNameFromJwtToken(String token) {
-        return Jwts.parserBuilder().setSigningKey(key()).build()
-                .parseClaimsJws(token).getBody().getSubject();
+        return parser.parseClaimsJws(token).getBody().getSubject();
     }
 
     public boolean validateJwtToken(String authToken) {
+        return verify(authToken).isPresent();
+    }
+
+    private VerifiedJwt parse(String token, String audience) {
         try {
-            Jwts.parserBuilder().setSigningKey(key()).build().parseClaimsJws(authToken);
-            return true;
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            if (claims.getExpiration() == null) {
+                logger.error("JWT token has no expiration");
+                return null;
+            }
+            if (!Objects.equals(claims.getAudience(), audience)) {
+                logger.error("JWT token is for audience {}, expected {}", claims.getAudience(), audience);
+                return null;
+            }
+            return new VerifiedJwt(claims.getSubject(), claims.getExpiration().toInstant());
         } catch (MalformedJwtException e) {
             logger.error("Invalid JWT token: {}", e.getMessage());
+        } catch (SignatureException e) {
+            logger.error("Invalid JWT signature: {}", e.getMessage());
         } catch (ExpiredJwtException e) {
             logger.error("JWT token is expired: {}", e.getMessage());
         } catch (UnsupportedJwtException e) {
@@ -76,6 +158,32 @@ public class JwtUtils {
             logger.error("JWT claims string is empty: {}", e.getMessage());
         }
 
-        return false;
+        return null;
+    }
+
+    private static final class ExpireWithToken implements Expiry<String, VerifiedJwt> {
+        @Override
+        public long expireAfterCreate(String digest, VerifiedJwt jwt, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), jwt.getExpiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String digest, VerifiedJwt jwt, long currentTime, long currentDuration) {
+            return expireAfterCreate(digest, jwt, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String digest, VerifiedJwt jwt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
     }
 }
@@ -3,25 +3,61 @@ package com.bugbase.security;
 import com.bugbase.model.Role;
 import com.bugbase.model.User;
 import com.bugbase.repository.UserRepository;
+import com.bugbase.service.UserAutocompleteService;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.convert.converter.Converter;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.AbstractAuthenticationToken;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
+/**
+ * Maps a Supabase JWT to a local user, creating or updating the row as the claims change.
+ * Users are cached by subject together with a hash of the email and full_name claims, so the
+ * database is only touched on a miss or when those claims change. Concurrent first requests
+ * for the same subject share one in-flight load, so a new user is inserted once.
+ */
 @Component
 @RequiredArgsConstructor
 public class SupabaseJwtConverter implements Converter<Jwt, AbstractAuthenticationToken> {
 
     private final UserRepository userRepository;
+    private final UserDetailsServiceImpl userDetailsService;
+    private final UserAutocompleteService userAutocompleteService;
+
+    @Value("${bugbase.cache.supabaseUsers.maxSize:10000}")
+    private long cacheMaxSize;
+
+    @Value("${bugbase.cache.supabaseUsers.ttl:PT5M}")
+    private Duration cacheTtl;
+
+    private AsyncCache<UUID, SyncedUser> users;
+
+    @PostConstruct
+    void init() {
+        users = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(cacheTtl)
+                .recordStats()
+                .buildAsync();
+    }
 
     @Override
-    @Transactional
     public AbstractAuthenticationToken convert(Jwt jwt) {
         String sub = jwt.getSubject();
         UUID userId = UUID.fromString(sub);
@@ -33,22 +69,64 @@ public class SupabaseJwtConverter implements Converter<Jwt, AbstractAuthenticati
         if (fullName == null)
             fullName = email != null ? email.split("@")[0] : "User";
 
-        final String userEmail = email;
-        final String userFullName = fullName;
+        String claimsHash = claimsHash(email, fullName);
+        SyncedUser synced = load(userId, email, fullName, claimsHash);
+        if (!synced.claimsHash().equals(claimsHash)) {
+            // Claims changed since the cached sync; replace the entry with a fresh one
+            users.synchronous().invalidate(userId);
+            synced = load(userId, email, fullName, claimsHash);
+        }
+
+        User user = synced.user();
+        return new UsernamePasswordAuthenticationToken(user, jwt, user.getAuthorities());
+    }
+
+    // Call after any change to a user so the next request reloads it
+    public void evictUser(UUID userId) {
+        users.synchronous().invalidate(userId);
+    }
 
-        User user = userRepository.findById(userId).orElseGet(() -> {
+    private SyncedUser load(UUID userId, String email, String fullName, String claimsHash) {
+        CompletableFuture<SyncedUser> pending = new CompletableFuture<>();
+        CompletableFuture<SyncedUser> inFlight = users.asMap().putIfAbsent(userId, pending);
+        if (inFlight == null) {
+            // This thread won: sync on the calling thread, everyone else waits on the future
+            try {
+                pending.complete(sync(userId, email, fullName, claimsHash));
+            } catch (RuntimeException e) {
+                pending.completeExceptionally(e); // failed loads are dropped from the cache
+            }
+            inFlight = pending;
+        }
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    private SyncedUser sync(UUID userId, String email, String fullName, String claimsHash) {
+        User user = userRepository.findById(userId).orElse(null);
+        if (user == null) {
             User newUser = User.builder()
                     .id(userId)
-                    .email(userEmail)
-                    .fullName(userFullName)
+                    .email(email)
+                    .fullName(fullName)
                     .role(Role.MEMBER) // Default role
                     .passwordHash("EXTERNAL_AUTH") // Not used
                     .build();
-            return userRepository.save(newUser);
-        });
+            try {
+                user = userRepository.save(newUser);
+                userAutocompleteService.put(user);
+            } catch (DataIntegrityViolationException e) {
+                // Another instance inserted the same user first
+                user = userRepository.findById(userId).orElseThrow(() -> e);
+            }
+        }
 
         // Update email or fullName if changed in Supabase
         boolean changed = false;
+        String previousEmail = user.getEmail();
         if (email != null && !email.equalsIgnoreCase(user.getEmail())) {
             user.setEmail(email);
             changed = true;
@@ -59,8 +137,24 @@ public class SupabaseJwtConverter implements Converter<Jwt, AbstractAuthenticati
         }
         if (changed) {
             user = userRepository.save(user);
+            userDetailsService.evictUser(previousEmail);
+            userAutocompleteService.put(user);
         }
+        return new SyncedUser(user, claimsHash);
+    }
 
-        return new UsernamePasswordAuthenticationToken(user, jwt, user.getAuthorities());
+    private static String claimsHash(String email, String fullName) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(String.valueOf(email).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(String.valueOf(fullName).getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private record SyncedUser(User user, String claimsHash) {
     }
 }
@@ -1,7 +1,10 @@
 package com.bugbase.security;
 
+import com.bugbase.config.CacheConfig;
 import com.bugbase.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -14,10 +17,17 @@ public class UserDetailsServiceImpl implements UserDetailsService {
 
     private final UserRepository userRepository;
 
+    // Runs on every authenticated request, so principals are cached by email
     @Override
     @Transactional
+    @Cacheable(cacheNames = CacheConfig.PRINCIPALS, key = "#email")
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
         return userRepository.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("User Not Found with email: " + email));
     }
+
+    // Call after any change to a user so the next request sees it
+    @CacheEvict(cacheNames = CacheConfig.PRINCIPALS, key = "#email")
+    public void evictUser(String email) {
+    }
 }
@@ -0,0 +1,16 @@
+package com.bugbase.security;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * Result of a successful signature and expiry check: the claims the filter needs.
+ */
+@Getter
+@AllArgsConstructor
+public class VerifiedJwt {
+    private final String subject;
+    private final Instant expiresAt;
+}
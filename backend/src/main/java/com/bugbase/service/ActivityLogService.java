@@ -0,0 +1,164 @@
+package com.bugbase.service;
+
+import com.bugbase.dto.ActivityEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write-behind activity log. Committed {@link ActivityEvent}s go into a bounded buffer and a
+ * single writer thread appends them to issue_activity in batches, which the driver sends as
+ * multi-row INSERTs (reWriteBatchedInserts). Requests never wait on the insert.
+ * <p>
+ * When the buffer is full a publisher waits up to offerTimeoutMs for room, then the event is
+ * dropped and counted in {@code bugbase.activity.dropped}. Buffered events are lost if the
+ * process dies; a clean shutdown flushes them.
+ */
+@Service
+public class ActivityLogService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ActivityLogService.class);
+
+    private static final String INSERT_SQL = """
+            INSERT INTO issue_activity (id, entity, entity_id, issue_id, project_id, actor_id,
+                                        action, field, old_value, new_value, occurred_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final int MAX_ATTEMPTS = 3;
+
+    @Value("${bugbase.activity.batchSize:500}")
+    private int batchSize;
+
+    @Value("${bugbase.activity.flushIntervalMs:200}")
+    private long flushIntervalMs;
+
+    @Value("${bugbase.activity.offerTimeoutMs:5}")
+    private long offerTimeoutMs;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BlockingQueue<ActivityEvent> buffer;
+    private final Counter written;
+    private final Counter droppedOverflow;
+    private final Counter droppedFailed;
+    private Thread writer;
+    private volatile boolean running = true;
+
+    public ActivityLogService(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry,
+            @Value("${bugbase.activity.bufferSize:10000}") int bufferSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        this.written = Counter.builder("bugbase.activity.written")
+                .description("Activity entries appended to issue_activity")
+                .register(meterRegistry);
+        this.droppedOverflow = Counter.builder("bugbase.activity.dropped")
+                .description("Activity entries lost")
+                .tag("reason", "overflow")
+                .register(meterRegistry);
+        this.droppedFailed = Counter.builder("bugbase.activity.dropped")
+                .description("Activity entries lost")
+                .tag("reason", "write_failed")
+                .register(meterRegistry);
+        Gauge.builder("bugbase.activity.buffered", buffer, BlockingQueue::size)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        writer = new Thread(this::drainLoop, "activity-log-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    // Runs after commit; without a surrounding transaction it runs immediately
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onActivity(ActivityEvent event) {
+        try {
+            if (!buffer.offer(event, offerTimeoutMs, TimeUnit.MILLISECONDS)) {
+                droppedOverflow.increment();
+            }
+        } catch (InterruptedException e) {
+            droppedOverflow.increment();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        // The writer notices within flushIntervalMs; an insert in flight is left to finish
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    private void drainLoop() {
+        List<ActivityEvent> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                ActivityEvent first = buffer.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                buffer.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+        // Shutting down: flush whatever is left
+        while (buffer.drainTo(batch, batchSize) > 0) {
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private void write(List<ActivityEvent> batch) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, event) -> {
+                    ps.setObject(1, event.getId());
+                    ps.setString(2, event.getEntity().name());
+                    ps.setObject(3, event.getEntityId());
+                    ps.setObject(4, event.getIssueId());
+                    ps.setObject(5, event.getProjectId());
+                    ps.setObject(6, event.getActorId());
+                    ps.setString(7, event.getAction().name());
+                    ps.setString(8, event.getField());
+                    ps.setString(9, event.getOldValue());
+                    ps.setString(10, event.getNewValue());
+                    ps.setTimestamp(11, Timestamp.valueOf(event.getOccurredAt()));
+                });
+                written.increment(batch.size());
+                return;
+            } catch (RuntimeException e) {
+                if (attempt == MAX_ATTEMPTS || !running) {
+                    droppedFailed.increment(batch.size());
+                    logger.error("Dropping {} activity entries after {} attempts", batch.size(), attempt, e);
+                    return;
+                }
+                logger.warn("Writing {} activity entries failed, retrying", batch.size(), e);
+                try {
+                    Thread.sleep(flushIntervalMs * attempt);
+                } catch (InterruptedException interrupted) {
+                    running = false; // retry once more without waiting, then give up
+                }
+            }
+        }
+    }
+}
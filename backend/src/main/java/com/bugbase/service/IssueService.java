@@ -0,0 +1,373 @@
+package com.bugbase.service;
+
+import com.bugbase.dto.ActivityEvent;
+import com.bugbase.dto.BulkItemResult;
+import com.bugbase.dto.ChangeEvent;
+import com.bugbase.dto.IssueChanges;
+import com.bugbase.dto.IssueResponse;
+import com.bugbase.exception.InvalidRequestException;
+import com.bugbase.exception.PreconditionFailedException;
+import com.bugbase.model.Issue;
+import com.bugbase.model.IssueStatus;
+import com.bugbase.model.User;
+import com.bugbase.repository.IssueRepository;
+import com.bugbase.repository.ProjectRepository;
+import com.bugbase.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Issue writes. Each method runs in one transaction and builds its response while the
+ * entity is still managed, so no lazy association is touched after commit. Every write
+ * publishes a {@link ChangeEvent} and one {@link ActivityEvent} per change, delivered to
+ * listeners once the transaction commits.
+ */
+@Service
+@RequiredArgsConstructor
+public class IssueService {
+
+    public static final int MAX_BULK_ITEMS = 1000;
+
+    // PATCH bodies limited to these keys skip loading the issue (IssueRepository.updateFields)
+    private static final Set<String> FIELD_UPDATE_KEYS = Set.of("status", "priority", "assigneeId");
+
+    private final IssueRepository issueRepository;
+    private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+    private final ProjectStatsService projectStatsService;
+    private final ProjectFeedService projectFeedService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public Optional<IssueResponse> createIssue(UUID projectId, Issue issue, User reporter) {
+        return projectRepository.findById(projectId).map(project -> {
+            issue.setVersion(null); // seeded by Hibernate, never taken from the client
+            issue.setProject(project);
+            issue.setReporter(reporter);
+            if (issue.getStatus() == null) {
+                issue.setStatus(IssueStatus.TO_DO);
+            }
+            IssueResponse response = IssueResponse.from(issueRepository.save(issue));
+            eventPublisher.publishEvent(ChangeEvent.issue(ChangeEvent.Action.CREATED, projectId, response.getId(), response));
+            eventPublisher.publishEvent(ActivityEvent.issue(ActivityEvent.Action.CREATED, projectId, response.getId(),
+                    actorId(reporter)));
+            publishStats(projectId);
+            return response;
+        });
+    }
+
+    /**
+     * Applies a PATCH body. With {@code expectedVersions} (from If-Match) the write only happens
+     * if the issue is still at one of those versions, otherwise {@link PreconditionFailedException}.
+     * Status, priority and assignee changes are one conditional UPDATE; anything else loads the
+     * issue and lets Hibernate write the changed columns with a version check.
+     */
+    @Transactional
+    public Optional<IssueResponse> updateIssue(UUID id, Map<String, Object> updates,
+            Collection<Long> expectedVersions, User actor) {
+        if (expectedVersions != null && expectedVersions.isEmpty()) {
+            return failPrecondition(id);
+        }
+        if (!updates.isEmpty() && FIELD_UPDATE_KEYS.containsAll(updates.keySet())) {
+            return updateFields(id, IssueChanges.from(updates), expectedVersions, actor);
+        }
+        return issueRepository.findWithPeopleById(id).map(issue -> {
+            if (expectedVersions != null && !expectedVersions.contains(issue.getVersion())) {
+                throw new PreconditionFailedException(id);
+            }
+            Map<String, Object> before = trackedFields(issue);
+            applyUpdates(issue, updates, userRepository::findById);
+            issueRepository.flush(); // sets updatedAt before it is read into the response
+            IssueResponse response = IssueResponse.from(issue);
+            eventPublisher.publishEvent(ChangeEvent.issue(ChangeEvent.Action.UPDATED, response.getProjectId(), id, response));
+            trackedFields(issue).forEach((field, value) -> {
+                if (!Objects.equals(before.get(field), value)) {
+                    eventPublisher.publishEvent(ActivityEvent.issueField(response.getProjectId(), id, actorId(actor),
+                            field, before.get(field), value));
+                }
+            });
+            if (before.get("status") != issue.getStatus() || before.get("priority") != issue.getPriority()) {
+                publishStats(response.getProjectId());
+            }
+            return response;
+        });
+    }
+
+    private Optional<IssueResponse> updateFields(UUID id, IssueChanges changes,
+            Collection<Long> expectedVersions, User actor) {
+        Optional<IssueRepository.FieldUpdate> update = issueRepository.updateFields(id, changes, expectedVersions);
+        if (update.isEmpty()) {
+            return expectedVersions != null ? failPrecondition(id) : Optional.empty();
+        }
+        IssueResponse response = update.get().issue();
+        UUID projectId = response.getProjectId();
+        eventPublisher.publishEvent(ChangeEvent.issue(ChangeEvent.Action.UPDATED, projectId, id, response));
+
+        UUID assigneeId = response.getAssignee() != null ? response.getAssignee().getId() : null;
+        Map<String, Object[]> changed = new LinkedHashMap<>();
+        changed.put("status", new Object[]{update.get().oldStatus(), response.getStatus()});
+        changed.put("priority", new Object[]{update.get().oldPriority(), response.getPriority()});
+        changed.put("assigneeId", new Object[]{update.get().oldAssigneeId(), assigneeId});
+        changed.forEach((field, values) -> {
+            if (!Objects.equals(values[0], values[1])) {
+                eventPublisher.publishEvent(ActivityEvent.issueField(projectId, id, actorId(actor),
+                        field, values[0], values[1]));
+            }
+        });
+        if (update.get().oldStatus() != response.getStatus() || update.get().oldPriority() != response.getPriority()) {
+            publishStats(projectId);
+        }
+        return Optional.of(response);
+    }
+
+    // No row matched a conditional write: 404 if the issue is gone, 412 if it moved on
+    private Optional<IssueResponse> failPrecondition(UUID id) {
+        if (!issueRepository.existsById(id)) {
+            return Optional.empty();
+        }
+        throw new PreconditionFailedException(id);
+    }
+
+    /**
+     * Applies a PATCH body to {@code issue}. An unknown assignee id is ignored; an empty or
+     * null one unassigns the issue.
+     */
+    public static void applyUpdates(Issue issue, Map<String, Object> updates,
+            Function<UUID, Optional<User>> findUser) {
+        if (updates.containsKey("title")) {
+            issue.setTitle((String) updates.get("title"));
+        }
+        if (updates.containsKey("description")) {
+            issue.setDescription((String) updates.get("description"));
+        }
+        if (updates.containsKey("status")) {
+            issue.setStatus(IssueChanges.parseStatus(updates.get("status")));
+        }
+        if (updates.containsKey("priority")) {
+            issue.setPriority(IssueChanges.parsePriority(updates.get("priority")));
+        }
+        if (updates.containsKey("assigneeId")) {
+            UUID assigneeId = IssueChanges.parseAssigneeId(updates.get("assigneeId"));
+            if (assigneeId != null) {
+                findUser.apply(assigneeId).ifPresent(issue::setAssignee);
+            } else {
+                issue.setAssignee(null);
+            }
+        }
+    }
+
+    /**
+     * Creates every valid entry in one transaction; the inserts go out as JDBC batches
+     * (hibernate.jdbc.batch_size). Returns empty if the project does not exist.
+     */
+    @Transactional
+    public Optional<List<BulkItemResult>> createIssues(UUID projectId, List<Issue> issues, User reporter) {
+        return projectRepository.findById(projectId).map(project -> {
+            BulkItemResult[] results = new BulkItemResult[issues.size()];
+
+            Set<UUID> assigneeIds = new HashSet<>();
+            for (Issue issue : issues) {
+                if (issue != null && issue.getAssignee() != null && issue.getAssignee().getId() != null) {
+                    assigneeIds.add(issue.getAssignee().getId());
+                }
+            }
+            // Loaded in full so the responses need no further queries
+            Map<UUID, User> knownAssignees = assigneeIds.isEmpty()
+                    ? Map.of()
+                    : userRepository.findAllById(assigneeIds).stream()
+                            .collect(Collectors.toMap(User::getId, Function.identity()));
+
+            Map<Integer, Issue> accepted = new LinkedHashMap<>();
+            for (int i = 0; i < issues.size(); i++) {
+                Issue issue = issues.get(i);
+                if (issue == null || issue.getTitle() == null || issue.getTitle().isBlank()) {
+                    results[i] = BulkItemResult.invalid(i, null, "Title is required");
+                    continue;
+                }
+                UUID assigneeId = issue.getAssignee() != null ? issue.getAssignee().getId() : null;
+                if (assigneeId != null && !knownAssignees.containsKey(assigneeId)) {
+                    results[i] = BulkItemResult.invalid(i, null, "Unknown assignee: " + assigneeId);
+                    continue;
+                }
+                issue.setId(null); // always persist, never merge
+                issue.setVersion(null);
+                issue.setProject(project);
+                issue.setReporter(reporter);
+                issue.setAssignee(assigneeId != null ? knownAssignees.get(assigneeId) : null);
+                if (issue.getStatus() == null) {
+                    issue.setStatus(IssueStatus.TO_DO);
+                }
+                accepted.put(i, issue);
+            }
+
+            issueRepository.saveAll(accepted.values());
+            accepted.forEach((i, issue) -> {
+                results[i] = BulkItemResult.of(i, issue.getId(), BulkItemResult.Status.CREATED);
+                eventPublisher.publishEvent(ChangeEvent.issue(ChangeEvent.Action.CREATED, projectId, issue.getId(),
+                        IssueResponse.from(issue)));
+                eventPublisher.publishEvent(ActivityEvent.issue(ActivityEvent.Action.CREATED, projectId, issue.getId(),
+                        actorId(reporter)));
+            });
+            if (!accepted.isEmpty()) {
+                publishStats(projectId);
+            }
+            return Arrays.asList(results);
+        });
+    }
+
+    /**
+     * Applies status/priority/assignee changes to many issues. Entries with identical changes
+     * are grouped and each group is written with one set-based UPDATE that also returns the
+     * previous values. Activity and change events go out only for issues the UPDATE changed,
+     * which are then read back in one query for the change feed.
+     */
+    @Transactional
+    public List<BulkItemResult> updateIssues(List<Map<String, Object>> items, User actor) {
+        BulkItemResult[] results = new BulkItemResult[items.size()];
+        Map<Integer, UUID> ids = new LinkedHashMap<>();
+        Map<Integer, IssueChanges> changesByIndex = new HashMap<>();
+
+        for (int i = 0; i < items.size(); i++) {
+            Map<String, Object> item = items.get(i);
+            UUID id;
+            try {
+                id = UUID.fromString((String) item.get("id"));
+            } catch (RuntimeException e) {
+                results[i] = BulkItemResult.invalid(i, null, "Missing or malformed id");
+                continue;
+            }
+            IssueChanges changes;
+            try {
+                changes = IssueChanges.from(item);
+            } catch (InvalidRequestException e) {
+                results[i] = BulkItemResult.invalid(i, id, e.getMessage());
+                continue;
+            }
+            if (changes.isEmpty()) {
+                results[i] = BulkItemResult.invalid(i, id, "Nothing to change: expected status, priority or assigneeId");
+                continue;
+            }
+            ids.put(i, id);
+            changesByIndex.put(i, changes);
+        }
+        if (ids.isEmpty()) {
+            return Arrays.asList(results);
+        }
+
+        Set<UUID> assigneeIds = new HashSet<>();
+        changesByIndex.values().stream()
+                .filter(changes -> changes.getAssigneeId() != null)
+                .forEach(changes -> assigneeIds.add(changes.getAssigneeId()));
+        Set<UUID> knownAssignees = assigneeIds.isEmpty()
+                ? Set.of()
+                : new HashSet<>(userRepository.findExistingIds(assigneeIds));
+
+        Map<IssueChanges, List<Integer>> groups = new LinkedHashMap<>();
+        ids.forEach((i, id) -> {
+            IssueChanges changes = changesByIndex.get(i);
+            if (changes.getAssigneeId() != null && !knownAssignees.contains(changes.getAssigneeId())) {
+                results[i] = BulkItemResult.invalid(i, id, "Unknown assignee: " + changes.getAssigneeId());
+            } else {
+                groups.computeIfAbsent(changes, c -> new ArrayList<>()).add(i);
+            }
+        });
+
+        Set<UUID> updated = new HashSet<>();
+        groups.forEach((changes, indexes) -> {
+            Map<UUID, IssueRepository.BulkUpdate> rows = new HashMap<>();
+            for (IssueRepository.BulkUpdate row : issueRepository.bulkUpdate(
+                    indexes.stream().map(ids::get).collect(Collectors.toSet()), changes)) {
+                rows.put(row.id(), row);
+                if (row.changed()) {
+                    publishActivity(row, actor);
+                    updated.add(row.id());
+                }
+            }
+            for (int i : indexes) {
+                IssueRepository.BulkUpdate row = rows.get(ids.get(i));
+                BulkItemResult.Status status = row == null ? BulkItemResult.Status.NOT_FOUND
+                        : row.changed() ? BulkItemResult.Status.UPDATED
+                        : BulkItemResult.Status.UNCHANGED;
+                results[i] = BulkItemResult.of(i, ids.get(i), status);
+            }
+        });
+        // Feed subscribers get the updated issues, read back with one query, and never refetch them
+        if (!updated.isEmpty()) {
+            List<IssueResponse> responses = issueRepository.findResponsesByIdIn(updated);
+            responses.forEach(response -> eventPublisher.publishEvent(
+                    ChangeEvent.issue(ChangeEvent.Action.UPDATED, response.getProjectId(), response.getId(), response)));
+            responses.stream().map(IssueResponse::getProjectId).distinct().forEach(this::publishStats);
+        }
+        return Arrays.asList(results);
+    }
+
+    @Transactional
+    public boolean deleteIssue(UUID id, User actor) {
+        Optional<UUID> projectId = issueRepository.findProjectIdById(id);
+        if (projectId.isEmpty()) {
+            return false;
+        }
+        // One DELETE; the issue's comments go with it (ON DELETE CASCADE, V8)
+        issueRepository.deleteAllByIdInBatch(List.of(id));
+        eventPublisher.publishEvent(ChangeEvent.issue(ChangeEvent.Action.DELETED, projectId.get(), id, null));
+        eventPublisher.publishEvent(ActivityEvent.issue(ActivityEvent.Action.DELETED, projectId.get(), id, actorId(actor)));
+        publishStats(projectId.get());
+        return true;
+    }
+
+    /**
+     * Publishes the project's counters as this transaction leaves them (the V4 trigger has
+     * already applied its writes). Subscribers take them from the event instead of calling the
+     * stats endpoint, whose read may go to a replica that has not replayed this commit yet.
+     */
+    private void publishStats(UUID projectId) {
+        if (projectFeedService.hasSubscribers(projectId)) {
+            eventPublisher.publishEvent(ChangeEvent.stats(projectId, projectStatsService.getStats(projectId)));
+        }
+    }
+
+    private void publishActivity(IssueRepository.BulkUpdate row, User actor) {
+        Map<String, Object[]> changed = new LinkedHashMap<>();
+        changed.put("status", new Object[]{row.oldStatus(), row.status()});
+        changed.put("priority", new Object[]{row.oldPriority(), row.priority()});
+        changed.put("assigneeId", new Object[]{row.oldAssigneeId(), row.assigneeId()});
+        changed.forEach((field, values) -> {
+            if (!Objects.equals(values[0], values[1])) {
+                eventPublisher.publishEvent(ActivityEvent.issueField(row.projectId(), row.id(), actorId(actor),
+                        field, values[0], values[1]));
+            }
+        });
+    }
+
+    // The fields a PATCH can change, as recorded in the activity log
+    private static Map<String, Object> trackedFields(Issue issue) {
+        Map<String, Object> fields = new HashMap<>();
+        fields.put("title", issue.getTitle());
+        fields.put("description", issue.getDescription());
+        fields.put("status", issue.getStatus());
+        fields.put("priority", issue.getPriority());
+        fields.put("assigneeId", issue.getAssignee() != null ? issue.getAssignee().getId() : null);
+        return fields;
+    }
+
+    private static UUID actorId(User actor) {
+        return actor != null ? actor.getId() : null;
+    }
+}
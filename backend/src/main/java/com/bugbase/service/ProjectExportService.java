@@ -0,0 +1,270 @@
+package com.bugbase.service;
+
+import com.bugbase.exception.ExportBusyException;
+import com.bugbase.exception.InvalidRequestException;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Streams a project's issues, and optionally their comments, straight from a forward-only
+ * JDBC cursor to the response. Only {@link #FETCH_SIZE} rows are held in memory at a time.
+ * <p>
+ * The cursor needs one read-only transaction, and so one pooled connection, for the whole
+ * export: as long as the client takes to read it, up to {@code spring.mvc.async.request-timeout}
+ * (30 minutes). {@code bugbase.export.maxConcurrent} caps how many connections exports can hold
+ * at once, leaving the rest of the pool to regular requests.
+ */
+@Service
+public class ProjectExportService {
+
+    // PostgreSQL only honours the fetch size inside a transaction (autocommit off)
+    private static final int FETCH_SIZE = 1000;
+
+    private static final long BUSY_RETRY_AFTER_SECONDS = 30;
+
+    private static final String ISSUES_SQL = """
+            SELECT id, title, description, status, priority, reporter_id, assignee_id, created_at, updated_at
+            FROM issues
+            WHERE project_id = ?
+            ORDER BY created_at, id
+            """;
+
+    private static final String COMMENTS_SQL = """
+            SELECT c.id, c.issue_id, c.author_id, c.content, c.created_at
+            FROM comments c
+            JOIN issues i ON i.id = c.issue_id
+            WHERE i.project_id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectMapper objectMapper;
+    private final Semaphore exportSlots;
+
+    public ProjectExportService(DataSource dataSource, PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper, @Value("${bugbase.export.maxConcurrent:2}") int maxConcurrent) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.objectMapper = objectMapper;
+        this.exportSlots = new Semaphore(maxConcurrent);
+    }
+
+    /**
+     * Takes an export slot, to be released by the {@link #export} that must follow. Called
+     * before the response starts, so a busy server can still answer with a status.
+     *
+     * @throws ExportBusyException when every slot is taken
+     */
+    public void reserveSlot() {
+        if (!exportSlots.tryAcquire()) {
+            throw new ExportBusyException(BUSY_RETRY_AFTER_SECONDS);
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        public static Format fromParam(String value) {
+            try {
+                return valueOf(value.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new InvalidRequestException("Unsupported export format: " + value);
+            }
+        }
+    }
+
+    /**
+     * Writes the export and releases the slot taken by {@link #reserveSlot}.
+     */
+    public void export(UUID projectId, Format format, boolean includeComments, OutputStream out) throws IOException {
+        try {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+            ExportWriter exportWriter = format == Format.CSV ? new CsvExportWriter(writer) : new NdjsonExportWriter(writer);
+
+            try {
+                readOnlyTransaction.executeWithoutResult(status -> {
+                    exportWriter.begin();
+                    jdbcTemplate.query(ISSUES_SQL, (RowCallbackHandler) rs -> exportWriter.issue(rs), projectId);
+                    if (includeComments) {
+                        jdbcTemplate.query(COMMENTS_SQL, (RowCallbackHandler) rs -> exportWriter.comment(rs), projectId);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause(); // most likely the client went away
+            }
+            writer.flush();
+        } finally {
+            exportSlots.release();
+        }
+    }
+
+    private interface ExportWriter {
+        void begin();
+
+        void issue(ResultSet rs) throws SQLException;
+
+        void comment(ResultSet rs) throws SQLException;
+    }
+
+    private final class NdjsonExportWriter implements ExportWriter {
+        private final Writer writer;
+        private final JsonGenerator json;
+
+        NdjsonExportWriter(Writer writer) throws IOException {
+            this.writer = writer;
+            this.json = objectMapper.getFactory().createGenerator(writer)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                    .disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+        }
+
+        @Override
+        public void begin() {
+        }
+
+        @Override
+        public void issue(ResultSet rs) throws SQLException {
+            try {
+                json.writeStartObject();
+                json.writeStringField("type", "issue");
+                json.writeStringField("id", rs.getString("id"));
+                json.writeStringField("title", rs.getString("title"));
+                json.writeStringField("description", rs.getString("description"));
+                json.writeStringField("status", rs.getString("status"));
+                json.writeStringField("priority", rs.getString("priority"));
+                json.writeStringField("reporterId", rs.getString("reporter_id"));
+                json.writeStringField("assigneeId", rs.getString("assignee_id"));
+                json.writeStringField("createdAt", timestamp(rs, "created_at"));
+                json.writeStringField("updatedAt", timestamp(rs, "updated_at"));
+                json.writeEndObject();
+                endLine();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void comment(ResultSet rs) throws SQLException {
+            try {
+                json.writeStartObject();
+                json.writeStringField("type", "comment");
+                json.writeStringField("id", rs.getString("id"));
+                json.writeStringField("issueId", rs.getString("issue_id"));
+                json.writeStringField("authorId", rs.getString("author_id"));
+                json.writeStringField("content", rs.getString("content"));
+                json.writeStringField("createdAt", timestamp(rs, "created_at"));
+                json.writeEndObject();
+                endLine();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void endLine() throws IOException {
+            json.flush(); // hands buffered JSON to the writer, not to the socket
+            writer.write('\n');
+        }
+    }
+
+    /**
+     * Issues and comments share one column layout: {@code author_id} is the reporter for an
+     * issue and {@code body} is the description or comment content. Fields a spreadsheet would
+     * evaluate as a formula are prefixed with {@code '}.
+     */
+    private static final class CsvExportWriter implements ExportWriter {
+        private final Writer writer;
+
+        CsvExportWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void begin() {
+            line("type", "id", "issue_id", "author_id", "title", "body", "status", "priority", "assignee_id",
+                    "created_at", "updated_at");
+        }
+
+        @Override
+        public void issue(ResultSet rs) throws SQLException {
+            line("issue", rs.getString("id"), rs.getString("id"), rs.getString("reporter_id"),
+                    rs.getString("title"), rs.getString("description"), rs.getString("status"),
+                    rs.getString("priority"), rs.getString("assignee_id"),
+                    timestamp(rs, "created_at"), timestamp(rs, "updated_at"));
+        }
+
+        @Override
+        public void comment(ResultSet rs) throws SQLException {
+            line("comment", rs.getString("id"), rs.getString("issue_id"), rs.getString("author_id"),
+                    null, rs.getString("content"), null, null, null,
+                    timestamp(rs, "created_at"), null);
+        }
+
+        private void line(String... values) {
+            try {
+                for (int i = 0; i < values.length; i++) {
+                    if (i > 0) {
+                        writer.write(',');
+                    }
+                    writeField(values[i]);
+                }
+                writer.write("\r\n");
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void writeField(String value) throws IOException {
+            if (value == null) {
+                return;
+            }
+            // Spreadsheets run a cell starting with one of these as a formula; the quote makes it text
+            if (!value.isEmpty() && "=+-@\t\r".indexOf(value.charAt(0)) >= 0) {
+                value = "'" + value;
+            }
+            boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                    || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+            if (!quote) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+    }
+
+    private static String timestamp(ResultSet rs, String column) throws SQLException {
+        Timestamp ts = rs.getTimestamp(column);
+        return ts != null ? ts.toLocalDateTime().toString() : null;
+    }
+}
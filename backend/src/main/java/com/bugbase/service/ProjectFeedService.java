@@ -0,0 +1,248 @@
+package com.bugbase.service;
+
+import com.bugbase.dto.ChangeEvent;
+import com.bugbase.dto.CommentResponse;
+import com.bugbase.dto.IssueResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Per-project Server-Sent Events feed of committed issue and comment changes.
+ * <p>
+ * Publishers never block on a client: events go into a small per-subscriber buffer and the
+ * subscriber's own sender thread writes them out, so a client that stops reading stalls only
+ * its own stream (until the container's write timeout fails it). Pending changes to the same
+ * entity are coalesced, and a subscriber whose buffer overflows is disconnected (its
+ * EventSource reconnects and reloads).
+ */
+@Service
+public class ProjectFeedService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProjectFeedService.class);
+
+    @Value("${bugbase.feed.bufferSize:256}")
+    private int bufferSize;
+
+    @Value("${bugbase.feed.timeoutMs:1800000}")
+    private long timeoutMs;
+
+    private final Map<UUID, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final Counter dropped;
+
+    public ProjectFeedService(MeterRegistry meterRegistry) {
+        this.dropped = Counter.builder("bugbase.feed.dropped")
+                .description("Feed subscribers disconnected because they fell behind")
+                .register(meterRegistry);
+        Gauge.builder("bugbase.feed.subscribers", subscribers,
+                        map -> map.values().stream().mapToInt(Set::size).sum())
+                .register(meterRegistry);
+    }
+
+    public SseEmitter subscribe(UUID projectId) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(projectId, emitter);
+        subscribers.compute(projectId, (id, projectSubscribers) -> {
+            Set<Subscriber> set = projectSubscribers != null ? projectSubscribers : ConcurrentHashMap.newKeySet();
+            set.add(subscriber);
+            return set;
+        });
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+        subscriber.start();
+        return emitter;
+    }
+
+    // Publishers skip building events nobody on this instance would receive
+    public boolean hasSubscribers(UUID projectId) {
+        return subscribers.containsKey(projectId);
+    }
+
+    // Runs after commit; without a surrounding transaction it runs immediately
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChange(ChangeEvent event) {
+        Set<Subscriber> projectSubscribers = subscribers.get(event.getProjectId());
+        if (projectSubscribers == null) {
+            return;
+        }
+        for (Subscriber subscriber : projectSubscribers) {
+            subscriber.offer(event);
+        }
+    }
+
+    // Keeps idle connections open through proxies and detects clients that went away
+    @Scheduled(fixedRateString = "${bugbase.feed.heartbeatMs:25000}")
+    public void heartbeat() {
+        subscribers.values().forEach(projectSubscribers -> projectSubscribers.forEach(Subscriber::ping));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // Each sender completes its emitter on the way out
+        subscribers.values().forEach(projectSubscribers -> projectSubscribers.forEach(Subscriber::disconnect));
+    }
+
+    /**
+     * Merges a new change into a pending one for the same entity, or returns null when the
+     * two cancel out (created then deleted before the client saw either).
+     */
+    static ChangeEvent coalesce(ChangeEvent pending, ChangeEvent next) {
+        if (pending == null) {
+            return next;
+        }
+        if (pending.getAction() == ChangeEvent.Action.CREATED) {
+            if (next.getAction() == ChangeEvent.Action.DELETED) {
+                return null;
+            }
+            if (next.getData() instanceof IssueResponse || next.getData() instanceof CommentResponse) {
+                return new ChangeEvent(next.getEntity(), ChangeEvent.Action.CREATED, next.getProjectId(),
+                        next.getIssueId(), next.getId(), next.getData(), next.getAt());
+            }
+        }
+        return next;
+    }
+
+    private final class Subscriber {
+        private final UUID projectId;
+        private final SseEmitter emitter;
+        private final Thread sender;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition ready = lock.newCondition();
+        private final LinkedHashMap<String, ChangeEvent> pending = new LinkedHashMap<>();
+        private boolean pingDue;
+        private boolean closed;
+        // Set when the server ends the stream, as opposed to the client going away
+        private boolean completeWhenClosed;
+
+        Subscriber(UUID projectId, SseEmitter emitter) {
+            this.projectId = projectId;
+            this.emitter = emitter;
+            this.sender = new Thread(this::sendLoop, "project-feed-sender-" + projectId);
+            this.sender.setDaemon(true);
+        }
+
+        void start() {
+            sender.start();
+        }
+
+        void offer(ChangeEvent event) {
+            boolean overflow = false;
+            lock.lock();
+            try {
+                if (closed) {
+                    return;
+                }
+                // Re-inserting moves the entity behind changes that happened before this one
+                ChangeEvent merged = coalesce(pending.remove(event.coalescingKey()), event);
+                if (merged != null) {
+                    pending.put(event.coalescingKey(), merged);
+                }
+                overflow = pending.size() > bufferSize;
+                ready.signal();
+            } finally {
+                lock.unlock();
+            }
+
+            if (overflow) {
+                dropped.increment();
+                logger.warn("Dropping slow feed subscriber of project {}", projectId);
+                disconnect();
+            }
+        }
+
+        void ping() {
+            lock.lock();
+            try {
+                pingDue = true;
+                ready.signal();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void sendLoop() {
+            while (true) {
+                List<ChangeEvent> batch;
+                boolean sendPing;
+                lock.lock();
+                try {
+                    while (!closed && pending.isEmpty() && !pingDue) {
+                        ready.awaitUninterruptibly();
+                    }
+                    if (closed) {
+                        break;
+                    }
+                    batch = new ArrayList<>(pending.values());
+                    pending.clear();
+                    sendPing = pingDue;
+                    pingDue = false;
+                } finally {
+                    lock.unlock();
+                }
+
+                // Blocks while the client is not reading; only this subscriber waits
+                try {
+                    if (sendPing) {
+                        emitter.send(SseEmitter.event().comment("ping"));
+                    }
+                    for (ChangeEvent event : batch) {
+                        emitter.send(SseEmitter.event().name("change").data(event, MediaType.APPLICATION_JSON));
+                    }
+                } catch (IOException | IllegalStateException e) {
+                    close();
+                    return;
+                }
+            }
+            if (completeWhenClosed) {
+                emitter.complete();
+            }
+        }
+
+        // Ends the stream from the server side: the sender stops and completes the emitter
+        void disconnect() {
+            lock.lock();
+            try {
+                completeWhenClosed = true;
+            } finally {
+                lock.unlock();
+            }
+            close();
+        }
+
+        void close() {
+            lock.lock();
+            try {
+                closed = true;
+                pending.clear();
+                ready.signal();
+            } finally {
+                lock.unlock();
+            }
+            subscribers.computeIfPresent(projectId, (id, projectSubscribers) -> {
+                projectSubscribers.remove(this);
+                return projectSubscribers.isEmpty() ? null : projectSubscribers;
+            });
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.bugbase.service;
+
+import com.bugbase.dto.ProjectPurgeStatus;
+import com.bugbase.model.Project;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Deletes a project with everything in it as a background job. Work is split into short
+ * transactions: issues are walked in (created_at, id) order a batch at a time, their comments
+ * deleted in bounded chunks, then the issues themselves. No statement touches more than one
+ * batch of rows, so row locks on the hot tables are held only briefly. A final transaction
+ * locks the project row, sweeps issues added meanwhile and deletes the project; its stats and
+ * version rows cascade.
+ * <p>
+ * Jobs run one at a time and their status is kept in memory. A job cut short by a restart
+ * leaves the project partly emptied but intact; deleting it again finishes the work.
+ */
+@Service
+public class ProjectPurgeService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProjectPurgeService.class);
+
+    private static final String ISSUE_TOTAL_SQL =
+            "SELECT coalesce(sum(issue_count), 0) FROM project_issue_stats WHERE project_id = :projectId";
+    private static final String FIRST_ISSUES_SQL = """
+            SELECT id, created_at FROM issues WHERE project_id = :projectId
+            ORDER BY created_at, id LIMIT :limit
+            """;
+    private static final String NEXT_ISSUES_SQL = """
+            SELECT id, created_at FROM issues
+            WHERE project_id = :projectId AND (created_at, id) > (:createdAt, :id)
+            ORDER BY created_at, id LIMIT :limit
+            """;
+    private static final String DELETE_COMMENTS_SQL = """
+            DELETE FROM comments WHERE id IN (
+                SELECT id FROM comments WHERE issue_id IN (:issueIds) LIMIT :limit)
+            """;
+    // Comments added since the chunked pass cascade here
+    private static final String DELETE_ISSUES_SQL =
+            "DELETE FROM issues WHERE id IN (:issueIds) AND project_id = :projectId";
+    private static final String LOCK_PROJECT_SQL = "SELECT id FROM projects WHERE id = :projectId FOR UPDATE";
+    private static final String DELETE_REMAINING_ISSUES_SQL = "DELETE FROM issues WHERE project_id = :projectId";
+    private static final String DELETE_PROJECT_SQL = "DELETE FROM projects WHERE id = :projectId";
+
+    private record IssueKey(UUID id, Timestamp createdAt) {
+    }
+
+    private static final RowMapper<IssueKey> ISSUE_KEY = (rs, rowNum) ->
+            new IssueKey(rs.getObject("id", UUID.class), rs.getTimestamp("created_at"));
+
+    @Value("${bugbase.purge.issueBatchSize:200}")
+    private int issueBatchSize;
+
+    @Value("${bugbase.purge.commentBatchSize:1000}")
+    private int commentBatchSize;
+
+    @Value("${bugbase.purge.pauseMs:20}")
+    private long pauseMs;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final ExecutorService worker;
+    private final Cache<UUID, ProjectPurgeStatus> jobs;
+    private final Map<UUID, UUID> activeJobByProject = new ConcurrentHashMap<>();
+
+    public ProjectPurgeService(NamedParameterJdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+            EntityManagerFactory entityManagerFactory,
+            @Value("${bugbase.purge.jobRetention:PT24H}") Duration jobRetention) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.entityManagerFactory = entityManagerFactory;
+        this.worker = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "project-purge");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.jobs = Caffeine.newBuilder()
+                .expireAfterWrite(jobRetention)
+                .build();
+    }
+
+    /**
+     * Queues deletion of the project, or returns the job already deleting it.
+     */
+    public ProjectPurgeStatus start(UUID projectId) {
+        UUID jobId = activeJobByProject.computeIfAbsent(projectId, id -> {
+            UUID newJobId = UUID.randomUUID();
+            jobs.put(newJobId, new ProjectPurgeStatus(newJobId, id, ProjectPurgeStatus.State.QUEUED,
+                    0, 0, 0, null, null, null));
+            worker.execute(() -> run(newJobId, id));
+            return newJobId;
+        });
+        return jobs.getIfPresent(jobId);
+    }
+
+    public Optional<ProjectPurgeStatus> getStatus(UUID jobId) {
+        return Optional.ofNullable(jobs.getIfPresent(jobId));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdownNow();
+    }
+
+    private void run(UUID jobId, UUID projectId) {
+        Instant startedAt = Instant.now();
+        Map<String, Object> project = Map.of("projectId", projectId);
+        long issuesTotal = 0;
+        long issuesDeleted = 0;
+        long commentsDeleted = 0;
+        try {
+            issuesTotal = jdbcTemplate.queryForObject(ISSUE_TOTAL_SQL, project, Long.class);
+            publish(jobId, projectId, ProjectPurgeStatus.State.RUNNING, issuesTotal, 0, 0, startedAt, null);
+            IssueKey after = null;
+            while (true) {
+                List<IssueKey> batch = after == null
+                        ? jdbcTemplate.query(FIRST_ISSUES_SQL,
+                                Map.of("projectId", projectId, "limit", issueBatchSize), ISSUE_KEY)
+                        : jdbcTemplate.query(NEXT_ISSUES_SQL, Map.of("projectId", projectId,
+                                "createdAt", after.createdAt(), "id", after.id(), "limit", issueBatchSize), ISSUE_KEY);
+                if (batch.isEmpty()) {
+                    break;
+                }
+                after = batch.get(batch.size() - 1);
+                List<UUID> issueIds = batch.stream().map(IssueKey::id).toList();
+
+                int chunk;
+                do {
+                    chunk = transactionTemplate.execute(status -> jdbcTemplate.update(DELETE_COMMENTS_SQL,
+                            Map.of("issueIds", issueIds, "limit", commentBatchSize)));
+                    commentsDeleted += chunk;
+                    pause();
+                } while (chunk == commentBatchSize);
+                issuesDeleted += transactionTemplate.execute(status -> jdbcTemplate.update(DELETE_ISSUES_SQL,
+                        Map.of("issueIds", issueIds, "projectId", projectId)));
+
+                publish(jobId, projectId, ProjectPurgeStatus.State.RUNNING, issuesTotal, issuesDeleted,
+                        commentsDeleted, startedAt, null);
+                pause();
+            }
+
+            issuesDeleted += transactionTemplate.execute(status -> {
+                jdbcTemplate.queryForList(LOCK_PROJECT_SQL, project, UUID.class);
+                int stragglers = jdbcTemplate.update(DELETE_REMAINING_ISSUES_SQL, project);
+                jdbcTemplate.update(DELETE_PROJECT_SQL, project);
+                return stragglers;
+            });
+            entityManagerFactory.getCache().evict(Project.class, projectId);
+
+            publish(jobId, projectId, ProjectPurgeStatus.State.COMPLETED, issuesTotal, issuesDeleted,
+                    commentsDeleted, startedAt, null);
+            logger.info("Deleted project {}: {} issues, {} comments in {}", projectId, issuesDeleted,
+                    commentsDeleted, Duration.between(startedAt, Instant.now()));
+        } catch (RuntimeException | InterruptedException e) {
+            publish(jobId, projectId, ProjectPurgeStatus.State.FAILED, issuesTotal, issuesDeleted,
+                    commentsDeleted, startedAt, e.getMessage());
+            logger.error("Deleting project {} failed after {} issues", projectId, issuesDeleted, e);
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+        } finally {
+            activeJobByProject.remove(projectId);
+        }
+    }
+
+    private void publish(UUID jobId, UUID projectId, ProjectPurgeStatus.State state, long issuesTotal,
+            long issuesDeleted, long commentsDeleted, Instant startedAt, String error) {
+        boolean finished = state == ProjectPurgeStatus.State.COMPLETED || state == ProjectPurgeStatus.State.FAILED;
+        jobs.put(jobId, new ProjectPurgeStatus(jobId, projectId, state, issuesTotal, issuesDeleted,
+                commentsDeleted, startedAt, finished ? Instant.now() : null, error));
+    }
+
+    // Leaves room between batches for other writers, autovacuum and replicas to keep up
+    private void pause() throws InterruptedException {
+        if (pauseMs > 0) {
+            Thread.sleep(pauseMs);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.bugbase.service;
+
+import com.bugbase.dto.ProjectIssueStats;
+import com.bugbase.model.IssuePriority;
+import com.bugbase.model.IssueStatus;
+import com.bugbase.repository.ProjectRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Reads and repairs {@code project_issue_stats}. The counters themselves are kept current by
+ * the {@code trg_issues_stats} trigger (V4), inside the transaction of each issue write.
+ */
+@Service
+@RequiredArgsConstructor
+public class ProjectStatsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProjectStatsService.class);
+
+    private static final String STATS_SQL =
+            "SELECT status, priority, issue_count FROM project_issue_stats WHERE project_id = ?";
+
+    // Exclusive counterpart of the shared lock every issue write takes in the trigger
+    private static final String LOCK_PROJECT_SQL = "SELECT pg_advisory_xact_lock(hashtextextended(?::text, 0))";
+
+    private static final String CLEAR_SQL = "DELETE FROM project_issue_stats WHERE project_id = ?";
+
+    private static final String REBUILD_SQL = """
+            INSERT INTO project_issue_stats (project_id, status, priority, issue_count)
+            SELECT project_id, COALESCE(status, 'NONE'), COALESCE(priority, 'NONE'), count(*)
+            FROM issues
+            WHERE project_id = ?
+            GROUP BY 1, 2, 3
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ProjectRepository projectRepository;
+
+    /**
+     * Reads at most one row per (status, priority) pair, however many issues the project has.
+     * An unknown project yields all-zero counts.
+     */
+    @Transactional(readOnly = true)
+    public ProjectIssueStats getStats(UUID projectId) {
+        Map<String, Long> byStatus = new LinkedHashMap<>();
+        for (IssueStatus status : IssueStatus.values()) {
+            byStatus.put(status.name(), 0L);
+        }
+        Map<String, Long> byPriority = new LinkedHashMap<>();
+        for (IssuePriority priority : IssuePriority.values()) {
+            byPriority.put(priority.name(), 0L);
+        }
+
+        long[] total = {0};
+        jdbcTemplate.query(STATS_SQL, rs -> {
+            long count = rs.getLong("issue_count");
+            byStatus.merge(rs.getString("status"), count, Long::sum);
+            byPriority.merge(rs.getString("priority"), count, Long::sum);
+            total[0] += count;
+        }, projectId);
+        return new ProjectIssueStats(projectId, total[0], byStatus, byPriority);
+    }
+
+    /**
+     * Recomputes one project's counters from the issues table. Waits for in-flight issue
+     * writes on the project and briefly blocks new ones, so the result is exact.
+     */
+    public void rebuild(UUID projectId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.query(LOCK_PROJECT_SQL, rs -> null, projectId);
+            jdbcTemplate.update(CLEAR_SQL, projectId);
+            jdbcTemplate.update(REBUILD_SQL, projectId);
+        });
+    }
+
+    @Scheduled(cron = "${bugbase.stats.reconcileCron:0 30 3 * * *}")
+    public void reconcileAll() {
+        int projects = 0;
+        for (UUID projectId : projectRepository.findAllIds()) {
+            rebuild(projectId);
+            projects++;
+        }
+        logger.info("Reconciled issue stats for {} projects", projects);
+    }
+}
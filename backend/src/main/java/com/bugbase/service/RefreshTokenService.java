@@ -1,51 +1,165 @@
 package com.bugbase.service;
 
+import com.bugbase.dto.RefreshTokenEntry;
 import com.bugbase.model.RefreshToken;
 import com.bugbase.repository.RefreshTokenRepository;
 import com.bugbase.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.HexFormat;
 import java.util.Optional;
 import java.util.UUID;
 
+/**
+ * Refresh tokens are stored as SHA-256 hashes and resolved through a bounded cache, so a
+ * refresh costs one indexed lookup: the token with its user on a miss, a primary-key existence
+ * probe on a hit. The probe makes a logout or user deletion on any instance take effect
+ * everywhere at once. Expired rows are removed by a scheduled sweeper in small batches rather
+ * than only when someone presents them.
+ */
 @Service
 @RequiredArgsConstructor
 public class RefreshTokenService {
 
+    private static final Logger logger = LoggerFactory.getLogger(RefreshTokenService.class);
+
     @Value("${bugbase.app.jwtRefreshExpirationMs:1296000000}") // 15 days
     private Long refreshTokenDurationMs;
 
+    @Value("${bugbase.cache.refreshTokens.maxSize:50000}")
+    private long cacheMaxSize;
+
+    @Value("${bugbase.cache.refreshTokens.ttl:PT5M}")
+    private Duration cacheTtl;
+
+    @Value("${bugbase.refreshTokens.sweepBatchSize:1000}")
+    private int sweepBatchSize;
+
     private final RefreshTokenRepository refreshTokenRepository;
     private final UserRepository userRepository;
 
-    public Optional<RefreshToken> findByToken(String token) {
-        return refreshTokenRepository.findByToken(token);
-    }
+    // Keyed by token hash; each entry lives until the token expires or the TTL, whichever is first
+    private Cache<String, RefreshTokenEntry> entries;
 
-    public RefreshToken createRefreshToken(UUID userId) {
-        RefreshToken refreshToken = new RefreshToken();
+    @PostConstruct
+    void init() {
+        entries = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(new ExpireWithToken(cacheTtl))
+                .build();
+    }
 
-        refreshToken.setUser(userRepository.findById(userId).get());
-        refreshToken.setExpiryDate(Instant.now().plusMillis(refreshTokenDurationMs));
-        refreshToken.setToken(UUID.randomUUID().toString());
+    public Optional<RefreshTokenEntry> findByToken(String token) {
+        String tokenHash = hash(token);
+        RefreshTokenEntry cached = entries.getIfPresent(tokenHash);
+        if (cached != null) {
+            // Another instance may have revoked it; its eviction only reached its own cache
+            if (refreshTokenRepository.existsById(cached.getId())) {
+                return Optional.of(cached);
+            }
+            entries.invalidate(tokenHash);
+            return Optional.empty();
+        }
+        Optional<RefreshTokenEntry> entry = refreshTokenRepository.findEntryByTokenHash(tokenHash);
+        entry.ifPresent(e -> entries.put(tokenHash, e));
+        return entry;
+    }
 
-        return refreshTokenRepository.save(refreshToken);
+    /**
+     * Creates a token for the user. The raw value is only available on the returned instance.
+     */
+    public RefreshToken createRefreshToken(UUID userId) {
+        String token = UUID.randomUUID().toString();
+        RefreshToken refreshToken = RefreshToken.builder()
+                .user(userRepository.getReferenceById(userId))
+                .tokenHash(hash(token))
+                .expiryDate(Instant.now().plusMillis(refreshTokenDurationMs))
+                .build();
+        refreshToken = refreshTokenRepository.save(refreshToken);
+        refreshToken.setToken(token);
+        return refreshToken;
     }
 
-    public RefreshToken verifyExpiration(RefreshToken token) {
-        if (token.getExpiryDate().compareTo(Instant.now()) < 0) {
-            refreshTokenRepository.delete(token);
+    public RefreshTokenEntry verifyExpiration(RefreshTokenEntry entry) {
+        if (entry.getExpiryDate().compareTo(Instant.now()) < 0) {
+            refreshTokenRepository.deleteEntryById(entry.getId());
+            entries.asMap().values().remove(entry);
             throw new RuntimeException("Refresh token was expired. Please make a new signin request");
         }
-        return token;
+        return entry;
     }
 
     @Transactional
     public int deleteByUserId(UUID userId) {
-        return refreshTokenRepository.deleteByUser(userRepository.findById(userId).get());
+        evictUser(userId);
+        return refreshTokenRepository.deleteByUserId(userId);
+    }
+
+    // Call after the user row is deleted; its token rows go with it (ON DELETE CASCADE, V8)
+    public void evictUser(UUID userId) {
+        entries.asMap().values().removeIf(entry -> entry.getUserId().equals(userId));
+    }
+
+    @Scheduled(fixedDelayString = "${bugbase.refreshTokens.sweepIntervalMs:3600000}")
+    public void sweepExpired() {
+        Instant now = Instant.now();
+        int deleted = 0;
+        int batch;
+        do {
+            batch = refreshTokenRepository.deleteExpiredBatch(now, sweepBatchSize);
+            deleted += batch;
+        } while (batch == sweepBatchSize);
+        if (deleted > 0) {
+            logger.info("Deleted {} expired refresh tokens", deleted);
+        }
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static final class ExpireWithToken implements Expiry<String, RefreshTokenEntry> {
+
+        private final long maxNanos;
+
+        ExpireWithToken(Duration ttl) {
+            this.maxNanos = ttl.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(String key, RefreshTokenEntry entry, long currentTime) {
+            long untilExpiry = Duration.between(Instant.now(), entry.getExpiryDate()).toNanos();
+            return Math.max(0, Math.min(untilExpiry, maxNanos));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, RefreshTokenEntry entry, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, entry, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, RefreshTokenEntry entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
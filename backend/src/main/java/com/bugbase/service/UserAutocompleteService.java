@@ -0,0 +1,190 @@
+package com.bugbase.service;
+
+import com.bugbase.dto.UserSummary;
+import com.bugbase.model.User;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * Prefix search over user emails and names for pickers. Every user is indexed in a sorted map
+ * under its email, its full name and each later word of the name, so a lookup is one range
+ * scan that stops after {@code limit} users and never touches the database.
+ * <p>
+ * The index is loaded by a scheduled refresh, which also picks up writes made by other
+ * instances. Writes on this instance are applied as they happen through {@link #put} and
+ * {@link #remove}. Until the first load finishes, lookups go to a pg_trgm-indexed query (V10).
+ */
+@Service
+@RequiredArgsConstructor
+public class UserAutocompleteService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserAutocompleteService.class);
+
+    // Separates the term from the user id, and sorts before any character a term can hold
+    private static final char KEY_SEPARATOR = '\u0000';
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private static final String ALL_USERS_SQL = "SELECT id, email, full_name FROM users";
+    private static final String FALLBACK_SQL = """
+            SELECT id, full_name FROM users
+            WHERE lower(email) LIKE :prefix ESCAPE '\\'
+               OR lower(full_name) LIKE :prefix ESCAPE '\\'
+               OR lower(full_name) LIKE :wordPrefix ESCAPE '\\'
+            ORDER BY full_name, id
+            LIMIT :limit
+            """;
+
+    private static final RowMapper<UserSummary> SUMMARY = (rs, rowNum) ->
+            new UserSummary(rs.getObject("id", UUID.class), rs.getString("full_name"));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    private volatile Index index;
+    // Writes seen while a refresh is reading the table; replayed onto the new index
+    private List<Consumer<Index>> writesDuringRefresh;
+
+    /**
+     * Up to {@code limit} users whose email, full name or a word of it starts with {@code query},
+     * ignoring case.
+     */
+    public List<UserSummary> search(String query, int limit) {
+        String prefix = normalize(query);
+        if (prefix.isEmpty()) {
+            return List.of();
+        }
+        Index current = index;
+        if (current == null) {
+            return searchDatabase(prefix, limit);
+        }
+
+        Map<UUID, UserSummary> matches = new LinkedHashMap<>();
+        for (UserSummary user : current.terms.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+            matches.putIfAbsent(user.getId(), user);
+            if (matches.size() == limit) {
+                break;
+            }
+        }
+        return new ArrayList<>(matches.values());
+    }
+
+    // Call after a user is created or its email or name changes
+    public synchronized void put(User user) {
+        UUID id = user.getId();
+        String email = user.getEmail();
+        String fullName = user.getFullName();
+        apply(current -> current.put(id, email, fullName));
+    }
+
+    // Call after a user is deleted
+    public synchronized void remove(UUID userId) {
+        apply(current -> current.remove(userId));
+    }
+
+    @Scheduled(initialDelayString = "${bugbase.autocomplete.initialDelayMs:0}",
+            fixedDelayString = "${bugbase.autocomplete.refreshIntervalMs:600000}")
+    public void refresh() {
+        synchronized (this) {
+            writesDuringRefresh = new ArrayList<>();
+        }
+        Index fresh = new Index();
+        try {
+            jdbcTemplate.getJdbcTemplate().query(ALL_USERS_SQL, (RowCallbackHandler) rs -> fresh.put(
+                    rs.getObject("id", UUID.class), rs.getString("email"), rs.getString("full_name")));
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                writesDuringRefresh = null;
+            }
+            logger.warn("Loading the user autocomplete index failed; keeping the previous one", e);
+            return;
+        }
+        synchronized (this) {
+            writesDuringRefresh.forEach(write -> write.accept(fresh));
+            writesDuringRefresh = null;
+            index = fresh;
+        }
+        logger.debug("User autocomplete index loaded: {} users", fresh.termsByUser.size());
+    }
+
+    private void apply(Consumer<Index> write) {
+        if (index != null) {
+            write.accept(index);
+        }
+        if (writesDuringRefresh != null) {
+            writesDuringRefresh.add(write);
+        }
+    }
+
+    private List<UserSummary> searchDatabase(String prefix, int limit) {
+        String escaped = prefix.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        return jdbcTemplate.query(FALLBACK_SQL, Map.of(
+                "prefix", escaped + "%",
+                "wordPrefix", "% " + escaped + "%",
+                "limit", limit), SUMMARY);
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : WHITESPACE.matcher(value.strip()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Index {
+        private final NavigableMap<String, UserSummary> terms = new ConcurrentSkipListMap<>();
+        private final Map<UUID, List<String>> termsByUser = new ConcurrentHashMap<>();
+
+        void put(UUID id, String email, String fullName) {
+            remove(id);
+            UserSummary user = new UserSummary(id, fullName);
+            List<String> keys = new ArrayList<>();
+            for (String term : termsOf(email, fullName)) {
+                String key = term + KEY_SEPARATOR + id;
+                terms.put(key, user);
+                keys.add(key);
+            }
+            termsByUser.put(id, keys);
+        }
+
+        void remove(UUID id) {
+            List<String> keys = termsByUser.remove(id);
+            if (keys != null) {
+                keys.forEach(terms::remove);
+            }
+        }
+
+        private static List<String> termsOf(String email, String fullName) {
+            List<String> terms = new ArrayList<>();
+            String normalizedEmail = normalize(email);
+            if (!normalizedEmail.isEmpty()) {
+                terms.add(normalizedEmail);
+            }
+            String name = normalize(fullName);
+            if (!name.isEmpty()) {
+                terms.add(name);
+                // "ada lovelace" is also found by "lovelace"
+                for (int i = name.indexOf(' '); i >= 0; i = name.indexOf(' ', i + 1)) {
+                    String rest = name.substring(i + 1);
+                    if (!terms.contains(rest)) {
+                        terms.add(rest);
+                    }
+                }
+            }
+            return terms;
+        }
+    }
+}
@@ -0,0 +1,6 @@
+-- Trigram indexes for user autocomplete while its in-memory index is still loading.
+-- They serve LIKE patterns anchored anywhere, including the word-prefix match on full_name.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX idx_users_email_trgm ON users USING GIN (lower(email) gin_trgm_ops);
+CREATE INDEX idx_users_full_name_trgm ON users USING GIN (lower(full_name) gin_trgm_ops);
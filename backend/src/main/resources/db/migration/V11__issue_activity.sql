@@ -0,0 +1,19 @@
+-- Append-only audit trail of issue, comment and user changes, written behind the request by
+-- ActivityLogService. No foreign keys: entries outlive the rows they describe.
+CREATE TABLE issue_activity (
+    id UUID PRIMARY KEY,
+    entity VARCHAR(20) NOT NULL,
+    entity_id UUID NOT NULL,
+    issue_id UUID,
+    project_id UUID,
+    actor_id UUID,
+    action VARCHAR(20) NOT NULL,
+    field VARCHAR(50),
+    old_value TEXT,
+    new_value TEXT,
+    occurred_at TIMESTAMP NOT NULL
+);
+
+-- Per-issue history, newest first
+CREATE INDEX idx_issue_activity_issue ON issue_activity (issue_id, occurred_at DESC, id DESC)
+    WHERE issue_id IS NOT NULL;
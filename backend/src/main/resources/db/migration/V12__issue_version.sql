@@ -0,0 +1,3 @@
+-- Optimistic-locking version for issues, checked by conditional PATCH (If-Match).
+-- A constant default is stored in the catalog, so existing rows are not rewritten.
+ALTER TABLE issues ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,6 @@
+-- Deleting a user keeps their comments: the discussion on other people's issues is shared
+-- history. The author reference is cleared instead, like every other user reference (V8)
+ALTER TABLE comments ALTER COLUMN author_id DROP NOT NULL;
+ALTER TABLE comments DROP CONSTRAINT fk_comments_author;
+ALTER TABLE comments
+    ADD CONSTRAINT fk_comments_author FOREIGN KEY (author_id) REFERENCES users(id) ON DELETE SET NULL;
@@ -0,0 +1,29 @@
+-- One change stamp for the whole project list (GET /projects, /projects/summaries). Every
+-- change those responses show goes through project_versions (V6): a bump, a new project or,
+-- through the cascade, a deleted one. Each write transaction then bumps this row once, from
+-- a deferred trigger, so the row lock is only held while the transaction commits.
+CREATE TABLE project_list_version (
+    id BOOLEAN PRIMARY KEY DEFAULT TRUE CHECK (id),
+    version BIGINT NOT NULL,
+    updated_at TIMESTAMPTZ NOT NULL
+);
+
+CREATE OR REPLACE FUNCTION project_list_bump_version() RETURNS trigger AS $$
+BEGIN
+    -- The flag is transaction-local: later events queued by the same transaction skip the update
+    IF current_setting('bugbase.project_list_bumped', true) IS DISTINCT FROM 'on' THEN
+        UPDATE project_list_version SET version = version + 1, updated_at = clock_timestamp();
+        PERFORM set_config('bugbase.project_list_bumped', 'on', true);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE CONSTRAINT TRIGGER trg_project_list_version
+    AFTER INSERT OR UPDATE OR DELETE ON project_versions
+    DEFERRABLE INITIALLY DEFERRED
+    FOR EACH ROW EXECUTE FUNCTION project_list_bump_version();
+
+INSERT INTO project_list_version (id, version, updated_at)
+SELECT TRUE, 1, COALESCE(max(updated_at), now())
+FROM project_versions;
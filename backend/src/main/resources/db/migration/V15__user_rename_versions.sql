@@ -0,0 +1,34 @@
+-- Issue and comment responses carry people's names, so renaming or deleting a user has to
+-- move every stamp that covers those responses. An issue's own version is its ETag (and
+-- If-Match tag), so the issues naming the user get a new version; through the V6 triggers
+-- that also bumps their projects. Projects the user owns or commented in are bumped
+-- directly. Renames are rare, and each lookup below is backed by a V8 index.
+CREATE OR REPLACE FUNCTION users_bump_versions() RETURNS trigger AS $$
+DECLARE
+    changed_user UUID := CASE WHEN TG_OP = 'DELETE' THEN OLD.id ELSE NEW.id END;
+BEGIN
+    UPDATE issues SET version = version + 1
+    WHERE reporter_id = changed_user OR assignee_id = changed_user;
+
+    PERFORM bump_project_versions(ARRAY(
+        SELECT i.project_id FROM comments c JOIN issues i ON i.id = c.issue_id WHERE c.author_id = changed_user
+        UNION
+        SELECT p.id FROM projects p WHERE p.owner_id = changed_user));
+    IF TG_OP = 'DELETE' THEN
+        RETURN OLD;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_users_rename_version
+    AFTER UPDATE OF full_name ON users
+    FOR EACH ROW
+    WHEN (OLD.full_name IS DISTINCT FROM NEW.full_name)
+    EXECUTE FUNCTION users_bump_versions();
+
+-- Before the delete: its ON DELETE SET NULL actions clear the references this looks for
+CREATE TRIGGER trg_users_delete_version
+    BEFORE DELETE ON users
+    FOR EACH ROW
+    EXECUTE FUNCTION users_bump_versions();
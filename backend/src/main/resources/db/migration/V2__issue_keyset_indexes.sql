@@ -0,0 +1,7 @@
+-- Keyset pagination of project boards walks (created_at, id) within a project.
+-- Each filter gets its own composite index so a filtered page is still a range scan.
+CREATE INDEX IF NOT EXISTS idx_issues_project_created ON issues (project_id, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_issues_project_status_created ON issues (project_id, status, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_issues_project_priority_created ON issues (project_id, priority, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_issues_project_assignee_created ON issues (project_id, assignee_id, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_issues_project_reporter_created ON issues (project_id, reporter_id, created_at, id);
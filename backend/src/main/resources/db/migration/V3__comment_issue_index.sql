@@ -0,0 +1,2 @@
+-- Comments are always read per issue, newest first
+CREATE INDEX IF NOT EXISTS idx_comments_issue_created ON comments (issue_id, created_at, id);
@@ -0,0 +1,68 @@
+-- Issue counts per (project, status, priority), maintained by a trigger in the same
+-- transaction as every insert, update and delete on issues. NULLs are stored as 'NONE'.
+CREATE TABLE project_issue_stats (
+    project_id UUID NOT NULL REFERENCES projects(id) ON DELETE CASCADE,
+    status VARCHAR(50) NOT NULL,
+    priority VARCHAR(50) NOT NULL,
+    issue_count BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (project_id, status, priority)
+);
+
+CREATE OR REPLACE FUNCTION bump_project_issue_stats(p_project UUID, p_status VARCHAR, p_priority VARCHAR, p_delta BIGINT)
+RETURNS void AS $$
+BEGIN
+    INSERT INTO project_issue_stats (project_id, status, priority, issue_count)
+    VALUES (p_project, p_status, p_priority, p_delta)
+    ON CONFLICT (project_id, status, priority)
+    DO UPDATE SET issue_count = project_issue_stats.issue_count + EXCLUDED.issue_count;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION issues_maintain_stats() RETURNS trigger AS $$
+DECLARE
+    old_status VARCHAR;
+    old_priority VARCHAR;
+    new_status VARCHAR;
+    new_priority VARCHAR;
+BEGIN
+    -- Writers share the project lock; the reconcile job takes it exclusively
+    IF TG_OP <> 'DELETE' THEN
+        PERFORM pg_advisory_xact_lock_shared(hashtextextended(NEW.project_id::text, 0));
+    END IF;
+    IF TG_OP <> 'INSERT' AND (TG_OP = 'DELETE' OR OLD.project_id <> NEW.project_id) THEN
+        PERFORM pg_advisory_xact_lock_shared(hashtextextended(OLD.project_id::text, 0));
+    END IF;
+
+    IF TG_OP = 'INSERT' THEN
+        PERFORM bump_project_issue_stats(NEW.project_id, COALESCE(NEW.status, 'NONE'), COALESCE(NEW.priority, 'NONE'), 1);
+    ELSIF TG_OP = 'DELETE' THEN
+        PERFORM bump_project_issue_stats(OLD.project_id, COALESCE(OLD.status, 'NONE'), COALESCE(OLD.priority, 'NONE'), -1);
+    ELSE
+        old_status := COALESCE(OLD.status, 'NONE');
+        old_priority := COALESCE(OLD.priority, 'NONE');
+        new_status := COALESCE(NEW.status, 'NONE');
+        new_priority := COALESCE(NEW.priority, 'NONE');
+        IF (OLD.project_id, old_status, old_priority) = (NEW.project_id, new_status, new_priority) THEN
+            RETURN NULL;
+        END IF;
+        -- Touch the two counter rows in key order so opposite transitions cannot deadlock
+        IF (OLD.project_id::text, old_status, old_priority) < (NEW.project_id::text, new_status, new_priority) THEN
+            PERFORM bump_project_issue_stats(OLD.project_id, old_status, old_priority, -1);
+            PERFORM bump_project_issue_stats(NEW.project_id, new_status, new_priority, 1);
+        ELSE
+            PERFORM bump_project_issue_stats(NEW.project_id, new_status, new_priority, 1);
+            PERFORM bump_project_issue_stats(OLD.project_id, old_status, old_priority, -1);
+        END IF;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_issues_stats
+    AFTER INSERT OR DELETE OR UPDATE OF project_id, status, priority ON issues
+    FOR EACH ROW EXECUTE FUNCTION issues_maintain_stats();
+
+INSERT INTO project_issue_stats (project_id, status, priority, issue_count)
+SELECT project_id, COALESCE(status, 'NONE'), COALESCE(priority, 'NONE'), count(*)
+FROM issues
+GROUP BY 1, 2, 3;
@@ -0,0 +1,14 @@
+-- Full-text search. Generated columns are recomputed by PostgreSQL on every insert and
+-- update, so the GIN indexes stay current without application code.
+ALTER TABLE issues ADD COLUMN search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('english', coalesce(description, '')), 'B')
+    ) STORED;
+
+CREATE INDEX idx_issues_search ON issues USING GIN (search_vector);
+
+ALTER TABLE comments ADD COLUMN search_vector tsvector
+    GENERATED ALWAYS AS (to_tsvector('english', content)) STORED;
+
+CREATE INDEX idx_comments_search ON comments USING GIN (search_vector);
@@ -0,0 +1,91 @@
+-- Per-project change stamp used for ETag / Last-Modified. Bumped in the same transaction
+-- as every write to the project, its issues or their comments.
+CREATE TABLE project_versions (
+    project_id UUID PRIMARY KEY REFERENCES projects(id) ON DELETE CASCADE,
+    version BIGINT NOT NULL,
+    updated_at TIMESTAMPTZ NOT NULL
+);
+
+CREATE OR REPLACE FUNCTION bump_project_versions(p_projects UUID[])
+RETURNS void AS $$
+BEGIN
+    -- Key order avoids deadlocks between multi-project writers; the join skips projects
+    -- deleted in the same statement
+    INSERT INTO project_versions (project_id, version, updated_at)
+    SELECT p.id, 1, clock_timestamp()
+    FROM projects p
+    WHERE p.id = ANY (p_projects)
+    ORDER BY p.id
+    ON CONFLICT (project_id)
+    DO UPDATE SET version = project_versions.version + 1, updated_at = EXCLUDED.updated_at;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION projects_bump_version() RETURNS trigger AS $$
+BEGIN
+    PERFORM bump_project_versions(ARRAY[NEW.id]);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Statement-level, so a bulk write bumps each affected project once
+CREATE OR REPLACE FUNCTION issues_bump_versions() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        PERFORM bump_project_versions(ARRAY(SELECT DISTINCT project_id FROM new_rows));
+    ELSIF TG_OP = 'DELETE' THEN
+        PERFORM bump_project_versions(ARRAY(SELECT DISTINCT project_id FROM old_rows));
+    ELSE
+        PERFORM bump_project_versions(ARRAY(
+            SELECT project_id FROM new_rows UNION SELECT project_id FROM old_rows));
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION comments_bump_versions() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        PERFORM bump_project_versions(ARRAY(
+            SELECT DISTINCT i.project_id FROM new_rows c JOIN issues i ON i.id = c.issue_id));
+    ELSIF TG_OP = 'DELETE' THEN
+        PERFORM bump_project_versions(ARRAY(
+            SELECT DISTINCT i.project_id FROM old_rows c JOIN issues i ON i.id = c.issue_id));
+    ELSE
+        PERFORM bump_project_versions(ARRAY(
+            SELECT i.project_id FROM new_rows c JOIN issues i ON i.id = c.issue_id
+            UNION
+            SELECT i.project_id FROM old_rows c JOIN issues i ON i.id = c.issue_id));
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_projects_version
+    AFTER INSERT OR UPDATE ON projects
+    FOR EACH ROW EXECUTE FUNCTION projects_bump_version();
+
+-- Transition tables allow only one event per trigger
+CREATE TRIGGER trg_issues_version_ins
+    AFTER INSERT ON issues REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION issues_bump_versions();
+CREATE TRIGGER trg_issues_version_upd
+    AFTER UPDATE ON issues REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION issues_bump_versions();
+CREATE TRIGGER trg_issues_version_del
+    AFTER DELETE ON issues REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION issues_bump_versions();
+
+CREATE TRIGGER trg_comments_version_ins
+    AFTER INSERT ON comments REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION comments_bump_versions();
+CREATE TRIGGER trg_comments_version_upd
+    AFTER UPDATE ON comments REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION comments_bump_versions();
+CREATE TRIGGER trg_comments_version_del
+    AFTER DELETE ON comments REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION comments_bump_versions();
+
+INSERT INTO project_versions (project_id, version, updated_at)
+SELECT id, 1, COALESCE(updated_at, created_at, now())
+FROM projects;
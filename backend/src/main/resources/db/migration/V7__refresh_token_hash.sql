@@ -0,0 +1,28 @@
+-- Refresh tokens are stored and looked up by SHA-256 hash; the raw value only ever exists
+-- on the client. Tokens issued before this migration keep working: their hash is backfilled.
+ALTER TABLE refresh_tokens ADD COLUMN token_hash VARCHAR(64);
+UPDATE refresh_tokens SET token_hash = encode(sha256(convert_to(token, 'UTF8')), 'hex');
+ALTER TABLE refresh_tokens ALTER COLUMN token_hash SET NOT NULL;
+ALTER TABLE refresh_tokens ADD CONSTRAINT uk_refresh_tokens_token_hash UNIQUE (token_hash);
+ALTER TABLE refresh_tokens DROP COLUMN token;
+
+-- A user holds one token per login. Schema updates from the former @OneToOne mapping may have
+-- added a unique constraint on user_id, which breaks a second login; drop it if present.
+DO $$
+DECLARE
+    constraint_name TEXT;
+BEGIN
+    FOR constraint_name IN
+        SELECT c.conname
+        FROM pg_constraint c
+        JOIN pg_attribute a ON a.attrelid = c.conrelid AND a.attnum = ANY (c.conkey)
+        WHERE c.conrelid = 'refresh_tokens'::regclass AND c.contype = 'u'
+          AND array_length(c.conkey, 1) = 1 AND a.attname = 'user_id'
+    LOOP
+        EXECUTE format('ALTER TABLE refresh_tokens DROP CONSTRAINT %I', constraint_name);
+    END LOOP;
+END $$;
+
+-- The expiry sweeper deletes oldest-first in batches; logout deletes by user
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_expiry_date ON refresh_tokens (expiry_date);
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_user_id ON refresh_tokens (user_id);
@@ -0,0 +1,45 @@
+-- Let the database remove dependent rows, so deleting an issue or a user is one set-based
+-- statement instead of entity-by-entity deletes:
+--   issue   -> its comments are deleted
+--   user    -> their comments and refresh tokens are deleted; issues and projects they
+--              reported, were assigned or own keep existing with the reference cleared
+-- The V1 foreign keys were unnamed (and schema updates may have added equivalent ones), so
+-- every foreign key on these columns is dropped before the named replacement is added.
+DO $$
+DECLARE
+    fk RECORD;
+BEGIN
+    FOR fk IN
+        SELECT c.conrelid::regclass::text AS table_name, c.conname
+        FROM pg_constraint c
+        JOIN pg_attribute a ON a.attrelid = c.conrelid AND a.attnum = ANY (c.conkey)
+        WHERE c.contype = 'f' AND array_length(c.conkey, 1) = 1
+          AND (c.conrelid::regclass::text, a.attname::text) IN (
+              ('comments', 'issue_id'),
+              ('comments', 'author_id'),
+              ('refresh_tokens', 'user_id'),
+              ('issues', 'reporter_id'),
+              ('issues', 'assignee_id'),
+              ('projects', 'owner_id'))
+    LOOP
+        EXECUTE format('ALTER TABLE %s DROP CONSTRAINT %I', fk.table_name, fk.conname);
+    END LOOP;
+END $$;
+
+ALTER TABLE comments
+    ADD CONSTRAINT fk_comments_issue FOREIGN KEY (issue_id) REFERENCES issues(id) ON DELETE CASCADE,
+    ADD CONSTRAINT fk_comments_author FOREIGN KEY (author_id) REFERENCES users(id) ON DELETE CASCADE;
+ALTER TABLE refresh_tokens
+    ADD CONSTRAINT fk_refresh_tokens_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE;
+ALTER TABLE issues
+    ADD CONSTRAINT fk_issues_reporter FOREIGN KEY (reporter_id) REFERENCES users(id) ON DELETE SET NULL,
+    ADD CONSTRAINT fk_issues_assignee FOREIGN KEY (assignee_id) REFERENCES users(id) ON DELETE SET NULL;
+ALTER TABLE projects
+    ADD CONSTRAINT fk_projects_owner FOREIGN KEY (owner_id) REFERENCES users(id) ON DELETE SET NULL;
+
+-- Each cascade looks up referencing rows by the foreign key column; the board indexes lead
+-- with project_id and can't serve these lookups
+CREATE INDEX IF NOT EXISTS idx_comments_author_id ON comments (author_id);
+CREATE INDEX IF NOT EXISTS idx_issues_reporter_id ON issues (reporter_id);
+CREATE INDEX IF NOT EXISTS idx_issues_assignee_id ON issues (assignee_id);
+CREATE INDEX IF NOT EXISTS idx_projects_owner_id ON projects (owner_id);
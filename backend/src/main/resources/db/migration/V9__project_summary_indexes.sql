@@ -0,0 +1,3 @@
+-- Keyset paging of /projects/summaries by name and by last activity
+CREATE INDEX idx_projects_name_id ON projects (name, id);
+CREATE INDEX idx_project_versions_updated_at ON project_versions (updated_at, project_id);
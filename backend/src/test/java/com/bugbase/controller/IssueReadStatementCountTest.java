@@ -0,0 +1,180 @@
+package com.bugbase.controller;
+
+import com.bugbase.PostgresIntegrationTest;
+import com.bugbase.model.Comment;
+import com.bugbase.model.Issue;
+import com.bugbase.model.IssuePriority;
+import com.bugbase.model.IssueStatus;
+import com.bugbase.model.Project;
+import com.bugbase.model.Role;
+import com.bugbase.model.User;
+import com.bugbase.repository.CommentRepository;
+import com.bugbase.repository.IssueRepository;
+import com.bugbase.repository.ProjectRepository;
+import com.bugbase.repository.UserRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The issue and comment reads are DTO projections: a fixed number of statements however many
+ * rows and people are involved, and only the id and name of each person in the JSON. Counts
+ * come from the per-request SQL metrics (SqlMetricsFilter).
+ */
+@AutoConfigureMockMvc
+@WithMockUser
+class IssueReadStatementCountTest extends PostgresIntegrationTest {
+
+    private static final String PASSWORD_HASH = "$2a$10$not-a-real-hash-but-must-never-leak";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    private User reporter;
+    private User assignee;
+    private Project project;
+    private Issue issue;
+
+    @BeforeEach
+    void seed() {
+        reporter = saveUser("Ada Reporter");
+        assignee = saveUser("Grace Assignee");
+        project = projectRepository.save(Project.builder().name("Statement counts").owner(reporter).build());
+        // Enough rows, with different people, that per-row lazy loading would show up as extra statements
+        for (int i = 0; i < 5; i++) {
+            User author = i % 2 == 0 ? reporter : assignee;
+            Issue saved = issueRepository.save(Issue.builder()
+                    .project(project)
+                    .title("Issue " + i)
+                    .description("Steps to reproduce " + i)
+                    .status(IssueStatus.TO_DO)
+                    .priority(IssuePriority.MEDIUM)
+                    .reporter(author)
+                    .assignee(author == reporter ? assignee : reporter)
+                    .build());
+            if (i == 0) {
+                issue = saved;
+            }
+        }
+        for (int i = 0; i < 5; i++) {
+            commentRepository.save(Comment.builder()
+                    .issue(issue)
+                    .author(i % 2 == 0 ? reporter : assignee)
+                    .content("Comment " + i)
+                    .build());
+        }
+    }
+
+    @Test
+    void getIssuesByProjectRunsTwoStatements() throws Exception {
+        // Version stamp, then the page with reporter and assignee joined in
+        MvcResult result = assertStatements("/projects/{projectId}/issues", 2,
+                () -> mockMvc.perform(get("/projects/{projectId}/issues", project.getId()))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.items.length()").value(5))
+                        .andExpect(jsonPath("$.items[0].projectId").value(project.getId().toString()))
+                        .andExpect(jsonPath("$.items[0].project").doesNotExist())
+                        .andExpect(jsonPath("$.items[0].reporter.fullName").exists())
+                        .andExpect(jsonPath("$.items[0].reporter.email").doesNotExist())
+                        .andExpect(jsonPath("$.items[0].assignee.role").doesNotExist())
+                        .andReturn());
+        assertNoUserLeaks(result);
+    }
+
+    @Test
+    void getIssueByIdRunsTwoStatements() throws Exception {
+        // Issue version for the ETag, then the issue with its people
+        MvcResult result = assertStatements("/issues/{id}", 2,
+                () -> mockMvc.perform(get("/issues/{id}", issue.getId()))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.reporter.id").value(reporter.getId().toString()))
+                        .andExpect(jsonPath("$.reporter.fullName").value("Ada Reporter"))
+                        .andExpect(jsonPath("$.assignee.fullName").value("Grace Assignee"))
+                        .andExpect(jsonPath("$.reporter.email").doesNotExist())
+                        .andExpect(jsonPath("$.reporter.authorities").doesNotExist())
+                        .andReturn());
+        assertNoUserLeaks(result);
+    }
+
+    @Test
+    void getCommentsByIssueRunsTwoStatements() throws Exception {
+        // Version stamp, then the page with authors joined in
+        MvcResult result = assertStatements("/issues/{issueId}/comments", 2,
+                () -> mockMvc.perform(get("/issues/{issueId}/comments", issue.getId()))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.items.length()").value(5))
+                        .andExpect(jsonPath("$.items[0].issueId").value(issue.getId().toString()))
+                        .andExpect(jsonPath("$.items[0].issue").doesNotExist())
+                        .andExpect(jsonPath("$.items[0].author.fullName").exists())
+                        .andExpect(jsonPath("$.items[0].author.email").doesNotExist())
+                        .andReturn());
+        assertNoUserLeaks(result);
+    }
+
+    private User saveUser(String fullName) {
+        return userRepository.save(User.builder()
+                .email(UUID.randomUUID() + "@example.com")
+                .passwordHash(PASSWORD_HASH)
+                .fullName(fullName)
+                .role(Role.MEMBER)
+                .build());
+    }
+
+    private MvcResult assertStatements(String uri, long expected, RequestCall call) throws Exception {
+        double before = statementTotal(uri);
+        MvcResult result = call.perform();
+        assertThat(statementTotal(uri) - before)
+                .as("SQL statements for GET %s", uri)
+                .isEqualTo(expected);
+        return result;
+    }
+
+    private double statementTotal(String uri) {
+        DistributionSummary summary = meterRegistry.find("bugbase.sql.request.statements")
+                .tags("method", "GET", "uri", uri)
+                .summary();
+        return summary != null ? summary.totalAmount() : 0;
+    }
+
+    private void assertNoUserLeaks(MvcResult result) throws Exception {
+        String body = result.getResponse().getContentAsString();
+        assertThat(body)
+                .doesNotContain("passwordHash")
+                .doesNotContain(PASSWORD_HASH)
+                .doesNotContain(reporter.getEmail())
+                .doesNotContain(assignee.getEmail());
+    }
+
+    @FunctionalInterface
+    private interface RequestCall {
+        MvcResult perform() throws Exception;
+    }
+}
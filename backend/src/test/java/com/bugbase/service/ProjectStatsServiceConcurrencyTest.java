@@ -0,0 +1,215 @@
+package com.bugbase.service;
+
+import com.bugbase.PostgresIntegrationTest;
+import com.bugbase.dto.IssueResponse;
+import com.bugbase.dto.ProjectIssueStats;
+import com.bugbase.model.Issue;
+import com.bugbase.model.IssuePriority;
+import com.bugbase.model.IssueStatus;
+import com.bugbase.model.Project;
+import com.bugbase.model.Role;
+import com.bugbase.model.User;
+import com.bugbase.repository.ProjectRepository;
+import com.bugbase.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * project_issue_stats is kept by the V4 trigger under a shared per-project advisory lock, and
+ * rebuild takes that lock exclusively. Parallel writers and rebuilds on one project must leave
+ * the counters equal to a GROUP BY over issues.
+ */
+class ProjectStatsServiceConcurrencyTest extends PostgresIntegrationTest {
+
+    private static final int WRITERS = 8;
+    private static final int OPERATIONS_PER_WRITER = 60;
+
+    private static final String COUNTERS_SQL = """
+            SELECT status, priority, issue_count FROM project_issue_stats
+            WHERE project_id = ? AND issue_count <> 0
+            """;
+    private static final String GROUP_BY_SQL = """
+            SELECT COALESCE(status, 'NONE') AS status, COALESCE(priority, 'NONE') AS priority, count(*) AS issue_count
+            FROM issues
+            WHERE project_id = ?
+            GROUP BY 1, 2
+            """;
+
+    @Autowired
+    private IssueService issueService;
+
+    @Autowired
+    private ProjectStatsService projectStatsService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User reporter;
+    private UUID projectId;
+
+    @BeforeEach
+    void seed() {
+        reporter = userRepository.save(User.builder()
+                .email(UUID.randomUUID() + "@example.com")
+                .passwordHash("$2a$10$unused")
+                .fullName("Stats Reporter")
+                .role(Role.MEMBER)
+                .build());
+        projectId = projectRepository.save(Project.builder().name("Stats").owner(reporter).build()).getId();
+    }
+
+    @Test
+    void concurrentWritesAndRebuildsKeepCountersExact() throws Exception {
+        // Shared so writers race on the same issues; compound reads lock the list
+        List<UUID> issueIds = Collections.synchronizedList(new ArrayList<>());
+        for (int i = 0; i < 40; i++) {
+            issueIds.add(create(new Random(i)));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        List<Future<?>> writers = new ArrayList<>();
+        try {
+            for (int w = 0; w < WRITERS; w++) {
+                Random random = new Random(1000 + w);
+                writers.add(executor.submit(() -> {
+                    start.await();
+                    for (int op = 0; op < OPERATIONS_PER_WRITER; op++) {
+                        write(random, issueIds);
+                    }
+                    return null;
+                }));
+            }
+            // Rebuilds interleaved with the writers must wait for them, not lose their updates
+            Future<?> rebuilder = executor.submit(() -> {
+                start.await();
+                while (writing.get()) {
+                    projectStatsService.rebuild(projectId);
+                    Thread.sleep(5);
+                }
+                return null;
+            });
+
+            start.countDown();
+            for (Future<?> writer : writers) {
+                writer.get(2, TimeUnit.MINUTES);
+            }
+            writing.set(false);
+            rebuilder.get(1, TimeUnit.MINUTES);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertCountersMatchIssues();
+        ProjectIssueStats stats = projectStatsService.getStats(projectId);
+        assertThat(stats.getTotal()).isEqualTo(
+                jdbcTemplate.queryForObject("SELECT count(*) FROM issues WHERE project_id = ?", Long.class, projectId));
+
+        projectStatsService.rebuild(projectId);
+        assertCountersMatchIssues();
+    }
+
+    @Test
+    void rebuildRepairsDrift() {
+        Random random = new Random(7);
+        for (int i = 0; i < 25; i++) {
+            create(random);
+        }
+        jdbcTemplate.update("UPDATE project_issue_stats SET issue_count = issue_count + 7 WHERE project_id = ?", projectId);
+        jdbcTemplate.update("""
+                INSERT INTO project_issue_stats (project_id, status, priority, issue_count)
+                VALUES (?, 'NONE', 'NONE', 3)
+                ON CONFLICT (project_id, status, priority) DO UPDATE SET issue_count = 3
+                """, projectId);
+
+        projectStatsService.rebuild(projectId);
+
+        assertCountersMatchIssues();
+    }
+
+    // One create, status/priority change or delete, as a request would run it
+    private void write(Random random, List<UUID> issueIds) {
+        int roll = random.nextInt(10);
+        UUID id;
+        synchronized (issueIds) {
+            id = issueIds.isEmpty() ? null : issueIds.get(random.nextInt(issueIds.size()));
+        }
+        if (roll < 3 || id == null) {
+            issueIds.add(create(random));
+            return;
+        }
+        if (roll < 8) {
+            Map<String, Object> updates = new HashMap<>();
+            updates.put("status", randomStatus(random).name());
+            if (random.nextBoolean()) {
+                updates.put("priority", randomPriority(random).name());
+            }
+            if (random.nextBoolean()) {
+                // Not a field-only PATCH: goes through the loaded entity and its version check
+                updates.put("title", "Retitled " + random.nextInt());
+            }
+            try {
+                issueService.updateIssue(id, updates, null, reporter);
+            } catch (ObjectOptimisticLockingFailureException e) {
+                // Lost a race with another writer or a delete; the loser rolls back, nothing to count
+            }
+        } else if (issueService.deleteIssue(id, reporter)) {
+            issueIds.remove(id);
+        }
+    }
+
+    private UUID create(Random random) {
+        Issue issue = Issue.builder()
+                .title("Issue " + random.nextInt())
+                .status(randomStatus(random))
+                .priority(random.nextInt(5) == 0 ? null : randomPriority(random))
+                .build();
+        return issueService.createIssue(projectId, issue, reporter).map(IssueResponse::getId).orElseThrow();
+    }
+
+    private void assertCountersMatchIssues() {
+        assertThat(countsBy(COUNTERS_SQL)).isEqualTo(countsBy(GROUP_BY_SQL));
+    }
+
+    private Map<String, Long> countsBy(String sql) {
+        Map<String, Long> counts = new HashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            counts.put(rs.getString("status") + "/" + rs.getString("priority"), rs.getLong("issue_count"));
+        }, projectId);
+        return counts;
+    }
+
+    private static IssueStatus randomStatus(Random random) {
+        return IssueStatus.values()[random.nextInt(IssueStatus.values().length)];
+    }
+
+    private static IssuePriority randomPriority(Random random) {
+        return IssuePriority.values()[random.nextInt(IssuePriority.values().length)];
+    }
+}
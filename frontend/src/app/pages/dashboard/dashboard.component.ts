@@ -6,11 +6,17 @@ import { AuthService, User } from '../../services/auth.service';
 import { HttpClient } from '@angular/common/http';
 import { environment } from '../../../environments/environment';
 
-interface Project {
+interface ProjectSummary {
     id: string;
     name: string;
-    description: string;
-    createdAt: string;
+    owner: { id: string; fullName: string } | null;
+    openIssues: number;
+    lastActivityAt: string;
+}
+
+interface CursorPage<T> {
+    items: T[];
+    nextCursor: string | null;
 }
 
 @Component({
@@ -85,7 +91,14 @@ interface Project {
         
         <!-- Projects List -->
         <section class="projects-section">
-          <h2>Your Projects</h2>
+          <div class="section-header">
+            <h2>Your Projects</h2>
+            <select [(ngModel)]="sort" (change)="loadProjects()">
+              <option value="name">Name</option>
+              <option value="last_activity">Recent activity</option>
+              <option value="open_issues">Open issues</option>
+            </select>
+          </div>
           
           <div *ngIf="loading" class="loading">Loading projects...</div>
           
@@ -99,15 +112,20 @@ interface Project {
           <div class="projects-grid" *ngIf="projects.length > 0">
             <div class="project-card" *ngFor="let project of projects" [routerLink]="['/projects', project.id, 'board']">
               <h3>{{ project.name }}</h3>
-              <p>{{ project.description || 'No description' }}</p>
+              <p>{{ project.openIssues }} open {{ project.openIssues === 1 ? 'issue' : 'issues' }}
+                · {{ project.owner?.fullName || 'No owner' }}</p>
               <div class="project-meta">
-                <span>Created: {{ project.createdAt | date:'short' }}</span>
+                <span>Last activity: {{ project.lastActivityAt | date:'short' }}</span>
               </div>
               <div class="project-action">
                 <span class="view-board">View Board →</span>
               </div>
             </div>
           </div>
+
+          <button class="load-more" *ngIf="nextCursor" [disabled]="loadingMore" (click)="loadMoreProjects()">
+            {{ loadingMore ? 'Loading...' : 'Load more projects' }}
+          </button>
         </section>
       </main>
       
@@ -326,10 +344,41 @@ interface Project {
       font-size: 14px;
     }
     
+    .section-header {
+      display: flex;
+      justify-content: space-between;
+      align-items: center;
+      margin-bottom: 20px;
+    }
+
     .projects-section h2 {
       color: #fff;
       font-size: 20px;
-      margin-bottom: 20px;
+      margin: 0;
+    }
+
+    .section-header select {
+      padding: 8px 12px;
+      background: rgba(255,255,255,0.05);
+      border: 1px solid rgba(255,255,255,0.1);
+      border-radius: 8px;
+      color: #fff;
+    }
+
+    .load-more {
+      display: block;
+      margin: 24px auto 0;
+      padding: 10px 20px;
+      background: rgba(255,255,255,0.05);
+      border: 1px solid rgba(255,255,255,0.1);
+      border-radius: 8px;
+      color: rgba(255,255,255,0.7);
+      cursor: pointer;
+    }
+
+    .load-more:disabled {
+      opacity: 0.5;
+      cursor: not-allowed;
     }
     
     .loading, .empty-state {
@@ -479,8 +528,11 @@ interface Project {
 })
 export class DashboardComponent implements OnInit {
     user: User | null = null;
-    projects: Project[] = [];
+    projects: ProjectSummary[] = [];
+    nextCursor: string | null = null;
+    sort = 'name';
     loading = true;
+    loadingMore = false;
     showCreateModal = false;
     newProject = { name: '', description: '' };
 
@@ -496,9 +548,13 @@ export class DashboardComponent implements OnInit {
     }
 
     loadProjects() {
-        this.http.get<Project[]>(`${environment.apiUrl}/projects`).subscribe({
-            next: (projects) => {
-                this.projects = projects;
+        this.loading = true;
+        this.http.get<CursorPage<ProjectSummary>>(`${environment.apiUrl}/projects/summaries`, {
+            params: { sort: this.sort }
+        }).subscribe({
+            next: (page) => {
+                this.projects = page.items;
+                this.nextCursor = page.nextCursor;
                 this.loading = false;
             },
             error: () => {
@@ -507,10 +563,26 @@ export class DashboardComponent implements OnInit {
         });
     }
 
+    loadMoreProjects() {
+        if (!this.nextCursor) return;
+        this.loadingMore = true;
+        this.http.get<CursorPage<ProjectSummary>>(`${environment.apiUrl}/projects/summaries`, {
+            params: { sort: this.sort, cursor: this.nextCursor }
+        }).subscribe({
+            next: (page) => {
+                const seen = new Set(this.projects.map(p => p.id));
+                this.projects = [...this.projects, ...page.items.filter(p => !seen.has(p.id))];
+                this.nextCursor = page.nextCursor;
+                this.loadingMore = false;
+            },
+            error: () => this.loadingMore = false
+        });
+    }
+
     createProject() {
-        this.http.post<Project>(`${environment.apiUrl}/projects`, this.newProject).subscribe({
-            next: (project) => {
-                this.projects.push(project);
+        this.http.post(`${environment.apiUrl}/projects`, this.newProject).subscribe({
+            next: () => {
+                this.loadProjects();
                 this.showCreateModal = false;
                 this.newProject = { name: '', description: '' };
             }
@@ -1,4 +1,4 @@
-import { Component, OnInit } from '@angular/core';
+import { Component, OnDestroy, OnInit } from '@angular/core';
 import { CommonModule } from '@angular/common';
 import { FormsModule } from '@angular/forms';
 import { ActivatedRoute, Router, RouterLink } from '@angular/router';
@@ -16,6 +16,25 @@ interface Issue {
   createdAt: string;
 }
 
+interface IssuePage {
+  items: Issue[];
+  nextCursor: string | null;
+}
+
+interface ProjectStats {
+  total: number;
+  byStatus: Record<string, number>;
+  byPriority: Record<string, number>;
+}
+
+interface ChangeEvent {
+  entity: 'ISSUE' | 'COMMENT' | 'STATS';
+  action: 'CREATED' | 'UPDATED' | 'DELETED';
+  issueId: string;
+  id: string;
+  data: any;
+}
+
 interface Project {
   id: string;
   name: string;
@@ -44,7 +63,7 @@ interface Project {
           <div class="column-header todo">
             <span class="column-dot"></span>
             <h3>To Do</h3>
-            <span class="count">{{ getIssuesByStatus('TO_DO').length }}</span>
+            <span class="count">{{ countByStatus('TO_DO') }}</span>
           </div>
           <div class="column-cards">
             <div class="issue-card" *ngFor="let issue of getIssuesByStatus('TO_DO')"
@@ -65,7 +84,7 @@ interface Project {
           <div class="column-header in-progress">
             <span class="column-dot"></span>
             <h3>In Progress</h3>
-            <span class="count">{{ getIssuesByStatus('IN_PROGRESS').length }}</span>
+            <span class="count">{{ countByStatus('IN_PROGRESS') }}</span>
           </div>
           <div class="column-cards">
             <div class="issue-card" *ngFor="let issue of getIssuesByStatus('IN_PROGRESS')"
@@ -86,7 +105,7 @@ interface Project {
           <div class="column-header done">
             <span class="column-dot"></span>
             <h3>Done</h3>
-            <span class="count">{{ getIssuesByStatus('DONE').length }}</span>
+            <span class="count">{{ countByStatus('DONE') }}</span>
           </div>
           <div class="column-cards">
             <div class="issue-card" *ngFor="let issue of getIssuesByStatus('DONE')"
@@ -103,6 +122,10 @@ interface Project {
         </div>
       </div>
 
+      <div class="load-more" *ngIf="nextCursor">
+        <button class="btn-secondary" (click)="loadIssues(nextCursor)">Load more issues</button>
+      </div>
+
       <!-- Create Issue Modal -->
       <div class="modal-overlay" *ngIf="showCreateModal" (click)="showCreateModal = false">
         <div class="modal" (click)="$event.stopPropagation()">
@@ -383,6 +406,12 @@ interface Project {
       border-color: #6366f1;
     }
 
+    .load-more {
+      display: flex;
+      justify-content: center;
+      margin-top: 24px;
+    }
+
     .modal-actions {
       display: flex;
       gap: 12px;
@@ -400,11 +429,16 @@ interface Project {
     }
   `]
 })
-export class IssueBoardComponent implements OnInit {
+export class IssueBoardComponent implements OnInit, OnDestroy {
   project: Project | null = null;
   issues: Issue[] = [];
+  nextCursor: string | null = null;
+  stats: ProjectStats | null = null;
   showCreateModal = false;
   projectId: string = '';
+  private feed: EventSource | null = null;
+  private feedRetry: ReturnType<typeof setTimeout> | null = null;
+  private destroyed = false;
 
   newIssue = {
     title: '',
@@ -423,6 +457,16 @@ export class IssueBoardComponent implements OnInit {
     this.projectId = this.route.snapshot.paramMap.get('projectId') || '';
     this.loadProject();
     this.loadIssues();
+    this.loadStats();
+    this.openFeed();
+  }
+
+  ngOnDestroy() {
+    this.destroyed = true;
+    this.feed?.close();
+    if (this.feedRetry) {
+      clearTimeout(this.feedRetry);
+    }
   }
 
   loadProject() {
@@ -432,12 +476,88 @@ export class IssueBoardComponent implements OnInit {
     });
   }
 
-  loadIssues() {
-    this.http.get<Issue[]>(`${environment.apiUrl}/projects/${this.projectId}/issues`).subscribe({
-      next: (issues) => this.issues = issues
+  loadIssues(cursor: string | null = null) {
+    const params: Record<string, string> = cursor ? { cursor } : {};
+    this.http.get<IssuePage>(`${environment.apiUrl}/projects/${this.projectId}/issues`, { params }).subscribe({
+      next: (page) => {
+        this.issues = cursor ? [...this.issues, ...page.items] : page.items;
+        this.nextCursor = page.nextCursor;
+      }
+    });
+  }
+
+  loadStats() {
+    this.http.get<ProjectStats>(`${environment.apiUrl}/projects/${this.projectId}/stats`).subscribe({
+      next: (stats) => this.stats = stats
+    });
+  }
+
+  // Applies other users' changes as they happen instead of polling the board. Events carry the
+  // new state, so nothing is read back from a replica that may not have caught up yet.
+  // EventSource cannot send the Authorization header, so each connection uses a one-off ticket
+  openFeed() {
+    this.http.post<{ ticket: string }>(`${environment.apiUrl}/projects/${this.projectId}/feed/ticket`, {}).subscribe({
+      next: ({ ticket }) => {
+        if (!this.destroyed) {
+          this.connectFeed(ticket);
+        }
+      },
+      error: () => this.reopenFeed()
     });
   }
 
+  connectFeed(ticket: string) {
+    this.feed = new EventSource(`${environment.apiUrl}/projects/${this.projectId}/feed?ticket=${encodeURIComponent(ticket)}`);
+    // The ticket has expired by the time EventSource would reconnect by itself
+    this.feed.onerror = () => {
+      this.feed?.close();
+      this.feed = null;
+      this.reopenFeed();
+    };
+    this.feed.addEventListener('change', (message) => {
+      const event: ChangeEvent = JSON.parse((message as MessageEvent).data);
+      if (event.entity === 'ISSUE') {
+        this.applyIssueChange(event);
+      } else if (event.entity === 'STATS') {
+        this.stats = event.data as ProjectStats;
+      }
+    });
+  }
+
+  // Changes made while disconnected were missed, so reload what the feed keeps up to date
+  reopenFeed() {
+    if (this.destroyed || this.feedRetry) {
+      return;
+    }
+    this.feedRetry = setTimeout(() => {
+      this.feedRetry = null;
+      this.loadIssues();
+      this.loadStats();
+      this.openFeed();
+    }, 5000);
+  }
+
+  applyIssueChange(event: ChangeEvent) {
+    if (event.action === 'DELETED') {
+      this.issues = this.issues.filter(i => i.id !== event.id);
+    } else {
+      this.upsertIssue(event.data as Issue);
+    }
+  }
+
+  upsertIssue(issue: Issue) {
+    const index = this.issues.findIndex(i => i.id === issue.id);
+    if (index >= 0) {
+      this.issues = this.issues.map(i => i.id === issue.id ? issue : i);
+    } else {
+      this.issues = [issue, ...this.issues];
+    }
+  }
+
+  countByStatus(status: string): number {
+    return this.stats?.byStatus[status] ?? this.getIssuesByStatus(status).length;
+  }
+
   getIssuesByStatus(status: string): Issue[] {
     return this.issues.filter(i => i.status === status);
   }
@@ -445,7 +565,8 @@ export class IssueBoardComponent implements OnInit {
   createIssue() {
     this.http.post<Issue>(`${environment.apiUrl}/projects/${this.projectId}/issues`, this.newIssue).subscribe({
       next: (issue) => {
-        this.issues.push(issue);
+        this.upsertIssue(issue);
+        this.loadStats();
         this.showCreateModal = false;
         this.newIssue = { title: '', description: '', priority: 'MEDIUM', status: 'TO_DO' };
       }
@@ -14,18 +14,35 @@ interface Issue {
   priority: 'LOW' | 'MEDIUM' | 'HIGH';
   assignee?: { id: string; fullName: string; email: string };
   reporter?: { id: string; fullName: string };
-  project?: { id: string; name: string };
+  projectId: string;
   createdAt: string;
   updatedAt: string;
+  version: number;
 }
 
 interface Comment {
   id: string;
   content: string;
-  author: { id: string; fullName: string };
+  author: { id: string | null; fullName: string }; // id is null once the author was deleted
   createdAt: string;
 }
 
+interface UserSummary {
+  id: string;
+  fullName: string;
+}
+
+interface CursorPage<T> {
+  items: T[];
+  nextCursor: string | null;
+}
+
+interface IssueDetail {
+  issue: Issue;
+  commentCount: number;
+  comments: CursorPage<Comment>;
+}
+
 @Component({
   selector: 'app-issue-detail',
   standalone: true,
@@ -34,7 +51,7 @@ interface Comment {
     <div class="detail-container">
       <!-- Header -->
       <header class="detail-header">
-        <a [routerLink]="(issue && issue.project) ? ['/projects', issue.project.id, 'board'] : ['/dashboard']" class="back-btn">
+        <a [routerLink]="issue ? ['/projects', issue.projectId, 'board'] : ['/dashboard']" class="back-btn">
           ← Back to Board
         </a>
         <div class="header-actions">
@@ -61,7 +78,7 @@ interface Comment {
 
           <!-- Comments -->
           <div class="comments-section">
-            <h3>Comments ({{ comments.length }})</h3>
+            <h3>Comments ({{ commentCount }})</h3>
             
             <div class="add-comment">
               <textarea [(ngModel)]="newComment" placeholder="Add a comment..."></textarea>
@@ -87,6 +104,11 @@ interface Comment {
               <div class="no-comments" *ngIf="comments.length === 0">
                 No comments yet. Be the first to comment!
               </div>
+
+              <button class="load-older" *ngIf="commentsCursor" [disabled]="loadingComments"
+                      (click)="loadOlderComments()">
+                {{ loadingComments ? 'Loading...' : 'Load older comments' }}
+              </button>
             </div>
           </div>
         </div>
@@ -118,6 +140,12 @@ interface Comment {
               <span>{{ issue?.assignee?.fullName }}</span>
             </div>
             <span class="unassigned" *ngIf="!issue.assignee">Unassigned</span>
+            <input class="assignee-search" type="text" [(ngModel)]="assigneeQuery" (input)="searchAssignees()"
+                   placeholder="Assign to...">
+            <ul class="assignee-matches" *ngIf="assigneeMatches.length > 0">
+              <li *ngFor="let user of assigneeMatches" (click)="assign(user.id)">{{ user.fullName }}</li>
+            </ul>
+            <button class="unassign" *ngIf="issue.assignee" (click)="assign(null)">Unassign</button>
           </div>
 
           <div class="sidebar-card">
@@ -382,6 +410,20 @@ interface Comment {
       line-height: 1.6;
     }
 
+    .load-older {
+      padding: 10px;
+      background: rgba(255,255,255,0.05);
+      border: 1px solid rgba(255,255,255,0.1);
+      border-radius: 8px;
+      color: rgba(255,255,255,0.7);
+      cursor: pointer;
+    }
+
+    .load-older:disabled {
+      opacity: 0.5;
+      cursor: not-allowed;
+    }
+
     .no-comments {
       text-align: center;
       color: rgba(255,255,255,0.4);
@@ -454,6 +496,47 @@ interface Comment {
       color: rgba(255,255,255,0.4);
     }
 
+    .assignee-search {
+      width: 100%;
+      margin-top: 10px;
+      padding: 8px 12px;
+      background: rgba(255,255,255,0.05);
+      border: 1px solid rgba(255,255,255,0.1);
+      border-radius: 6px;
+      color: #fff;
+      box-sizing: border-box;
+    }
+
+    .assignee-matches {
+      list-style: none;
+      margin: 4px 0 0;
+      padding: 4px 0;
+      background: #1a1a2e;
+      border: 1px solid rgba(255,255,255,0.1);
+      border-radius: 6px;
+    }
+
+    .assignee-matches li {
+      padding: 6px 12px;
+      color: rgba(255,255,255,0.8);
+      font-size: 14px;
+      cursor: pointer;
+    }
+
+    .assignee-matches li:hover {
+      background: rgba(99, 102, 241, 0.15);
+    }
+
+    .unassign {
+      margin-top: 8px;
+      padding: 0;
+      background: none;
+      border: none;
+      color: rgba(255,255,255,0.5);
+      font-size: 12px;
+      cursor: pointer;
+    }
+
     .loading {
       text-align: center;
       color: rgba(255,255,255,0.5);
@@ -464,9 +547,15 @@ interface Comment {
 export class IssueDetailComponent implements OnInit {
   issue: Issue | null = null;
   comments: Comment[] = [];
+  commentCount = 0;
+  commentsCursor: string | null = null;
+  loadingComments = false;
   newComment = '';
   editing = false;
   currentUserId: string = '';
+  assigneeQuery = '';
+  assigneeMatches: UserSummary[] = [];
+  private assigneeSearchTimer?: ReturnType<typeof setTimeout>;
 
   constructor(
     private route: ActivatedRoute,
@@ -479,19 +568,34 @@ export class IssueDetailComponent implements OnInit {
     const issueId = this.route.snapshot.paramMap.get('issueId');
     this.currentUserId = this.authService.getCurrentUser()?.id || '';
     this.loadIssue(issueId!);
-    this.loadComments(issueId!);
   }
 
+  // Issue, people, comment count and the newest comments arrive in one response
   loadIssue(id: string) {
-    this.http.get<Issue>(`${environment.apiUrl}/issues/${id}`).subscribe({
-      next: (issue) => this.issue = issue,
+    this.http.get<IssueDetail>(`${environment.apiUrl}/issues/${id}/detail`).subscribe({
+      next: (detail) => {
+        this.issue = detail.issue;
+        this.commentCount = detail.commentCount;
+        this.comments = detail.comments.items;
+        this.commentsCursor = detail.comments.nextCursor;
+      },
       error: () => this.router.navigate(['/dashboard'])
     });
   }
 
-  loadComments(issueId: string) {
-    this.http.get<Comment[]>(`${environment.apiUrl}/issues/${issueId}/comments`).subscribe({
-      next: (comments) => this.comments = comments
+  loadOlderComments() {
+    if (!this.issue || !this.commentsCursor) return;
+    this.loadingComments = true;
+    this.http.get<CursorPage<Comment>>(`${environment.apiUrl}/issues/${this.issue.id}/comments`, {
+      params: { cursor: this.commentsCursor }
+    }).subscribe({
+      next: (page) => {
+        const seen = new Set(this.comments.map(c => c.id));
+        this.comments = [...this.comments, ...page.items.filter(c => !seen.has(c.id))];
+        this.commentsCursor = page.nextCursor;
+        this.loadingComments = false;
+      },
+      error: () => this.loadingComments = false
     });
   }
 
@@ -502,14 +606,60 @@ export class IssueDetailComponent implements OnInit {
       description: this.issue.description,
       status: this.issue.status,
       priority: this.issue.priority
-    }).subscribe({
+    }, { headers: this.ifMatch() }).subscribe({
       next: (updated) => {
         this.issue = updated;
         this.editing = false;
-      }
+      },
+      error: (err) => this.handleConflict(err)
     });
   }
 
+  // Debounced so a burst of keystrokes sends one request
+  searchAssignees() {
+    clearTimeout(this.assigneeSearchTimer);
+    const query = this.assigneeQuery.trim();
+    if (!query) {
+      this.assigneeMatches = [];
+      return;
+    }
+    this.assigneeSearchTimer = setTimeout(() => {
+      this.http.get<UserSummary[]>(`${environment.apiUrl}/users/autocomplete`, {
+        params: { q: query }
+      }).subscribe({
+        next: (matches) => {
+          if (this.assigneeQuery.trim() === query) this.assigneeMatches = matches;
+        }
+      });
+    }, 150);
+  }
+
+  assign(assigneeId: string | null) {
+    if (!this.issue) return;
+    this.http.patch<Issue>(`${environment.apiUrl}/issues/${this.issue.id}`, {
+      assigneeId: assigneeId ?? ''
+    }, { headers: this.ifMatch() }).subscribe({
+      next: (updated) => {
+        this.issue = updated;
+        this.assigneeQuery = '';
+        this.assigneeMatches = [];
+      },
+      error: (err) => this.handleConflict(err)
+    });
+  }
+
+  // Updates only apply to the version on screen; someone else's newer edit is never overwritten
+  private ifMatch(): Record<string, string> {
+    return { 'If-Match': `"${this.issue!.version}"` };
+  }
+
+  private handleConflict(err: { status: number }) {
+    if (err.status !== 412 || !this.issue) return;
+    alert('This issue was changed by someone else. It has been reloaded; please apply your change again.');
+    this.editing = false;
+    this.loadIssue(this.issue.id);
+  }
+
   addComment() {
     if (!this.issue || !this.newComment.trim()) return;
     this.http.post<Comment>(`${environment.apiUrl}/issues/${this.issue.id}/comments`, {
@@ -517,6 +667,7 @@ export class IssueDetailComponent implements OnInit {
     }).subscribe({
       next: (comment) => {
         this.comments.unshift(comment);
+        this.commentCount++;
         this.newComment = '';
       }
     });
@@ -527,6 +678,7 @@ export class IssueDetailComponent implements OnInit {
     this.http.delete(`${environment.apiUrl}/issues/${this.issue.id}/comments/${commentId}`).subscribe({
       next: () => {
         this.comments = this.comments.filter(c => c.id !== commentId);
+        this.commentCount = Math.max(this.commentCount - 1, 0);
       }
     });
   }